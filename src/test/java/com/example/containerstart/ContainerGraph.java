@@ -0,0 +1,264 @@
+package com.example.containerstart;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.lifecycle.Startables;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * ContainerGraph starts a declared DAG of containers in dependency order.
+ *
+ * Every node is started through {@link Startables#deepStart(Startable...)} as soon as all of its
+ * dependencies are running, so independent branches overlap and the total startup time is bound by
+ * the longest dependency chain rather than by the sum of all starts. Per-node latency and the
+ * critical path are recorded in the returned {@link StartReport}.
+ *
+ * <pre>
+ * ContainerGraph graph = ContainerGraph.create()
+ *         .node("postgres", postgres)
+ *         .node("redis", redis)
+ *         .node("app", app, "postgres", "redis");
+ * StartReport report = graph.start();
+ * </pre>
+ */
+public final class ContainerGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContainerGraph.class);
+
+    // Nodes in declaration order
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    private ContainerGraph() {
+    }
+
+    /**
+     * Factory method to create an empty graph.
+     * @return ContainerGraph instance
+     */
+    public static ContainerGraph create() {
+        return new ContainerGraph();
+    }
+
+    /**
+     * Declares a container and the names of the nodes it depends on.
+     * Dependencies may be declared before or after the node itself.
+     * @param name Unique node name
+     * @param container Container (or any Startable) to start
+     * @param dependsOn Names of nodes that must be running first
+     * @return ContainerGraph instance
+     */
+    public ContainerGraph node(String name, Startable container, String... dependsOn) {
+        if (nodes.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate node: " + name);
+        }
+        nodes.put(name, new Node(name, container, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Groups the nodes into levels: level 0 has no dependencies, level n depends on at least one node of level n-1.
+     * @return Node names per level
+     * @throws IllegalStateException if a dependency is unknown or the graph has a cycle
+     */
+    public List<List<String>> levels() {
+        Map<String, Integer> remaining = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Node node : nodes.values()) {
+            remaining.put(node.name, node.dependsOn.size());
+            for (String dependency : node.dependsOn) {
+                if (!nodes.containsKey(dependency)) {
+                    throw new IllegalStateException("Node '" + node.name + "' depends on unknown node '" + dependency + "'");
+                }
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node.name);
+            }
+        }
+
+        List<List<String>> levels = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        remaining.forEach((name, count) -> {
+            if (count == 0) {
+                current.add(name);
+            }
+        });
+        current.sort(Comparator.comparing(this::declarationIndex));
+
+        int visited = 0;
+        List<String> level = current;
+        while (!level.isEmpty()) {
+            levels.add(level);
+            visited += level.size();
+            List<String> next = new ArrayList<>();
+            for (String name : level) {
+                for (String dependent : dependents.getOrDefault(name, List.of())) {
+                    if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            next.sort(Comparator.comparing(this::declarationIndex));
+            level = next;
+        }
+
+        if (visited != nodes.size()) {
+            throw new IllegalStateException("Container graph has a cycle");
+        }
+        return levels;
+    }
+
+    /**
+     * Starts every node once its dependencies are running and blocks until all are up.
+     * @return Timing report with per-node latency and the critical path
+     */
+    public StartReport start() {
+        List<List<String>> levels = levels();
+        logger.info("Starting {} containers in {} levels: {}", nodes.size(), levels.size(), levels);
+
+        long graphStart = System.nanoTime();
+        Map<String, CompletableFuture<NodeTiming>> futures = new HashMap<>();
+        for (int depth = 0; depth < levels.size(); depth++) {
+            for (String name : levels.get(depth)) {
+                Node node = nodes.get(name);
+                int nodeLevel = depth;
+                CompletableFuture<?>[] dependencies = node.dependsOn.stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(name, CompletableFuture.allOf(dependencies)
+                        .thenCompose(ignored -> startNode(node, nodeLevel, graphStart)));
+            }
+        }
+
+        try {
+            // allOf completes only after every node has either started or failed, so nothing is still starting here
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            RuntimeException failure = e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : e;
+            stopStarted(levels, futures, failure);
+            throw failure;
+        }
+
+        Map<String, NodeTiming> timings = new LinkedHashMap<>();
+        nodes.keySet().forEach(name -> timings.put(name, futures.get(name).join()));
+        StartReport report = new StartReport((System.nanoTime() - graphStart) / 1_000_000,
+                List.copyOf(timings.values()), criticalPath(timings));
+
+        logger.info("Container graph started in {} ms, critical path {} ({} ms)",
+                report.totalMillis(), report.criticalPath(), report.criticalPathMillis());
+        return report;
+    }
+
+    /**
+     * Stops the containers in reverse dependency order.
+     */
+    public void stop() {
+        List<List<String>> levels = new ArrayList<>(levels());
+        Collections.reverse(levels);
+        levels.forEach(level -> level.forEach(name -> nodes.get(name).container.stop()));
+    }
+
+    // Stops the nodes that did start, dependents first, so a failed graph leaves no containers behind
+    private void stopStarted(List<List<String>> levels, Map<String, CompletableFuture<NodeTiming>> futures,
+                             RuntimeException failure) {
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            for (String name : levels.get(depth)) {
+                CompletableFuture<NodeTiming> future = futures.get(name);
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    logger.info("Stopping container '{}' after a failed graph start", name);
+                    try {
+                        nodes.get(name).container.stop();
+                    } catch (RuntimeException e) {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<NodeTiming> startNode(Node node, int level, long graphStart) {
+        long nodeStart = System.nanoTime();
+        logger.info("Starting container '{}' (level {})", node.name, level);
+        return Startables.deepStart(node.container).thenApply(ignored -> {
+            long nodeEnd = System.nanoTime();
+            NodeTiming timing = new NodeTiming(node.name, level,
+                    (nodeStart - graphStart) / 1_000_000,
+                    (nodeEnd - nodeStart) / 1_000_000);
+            logger.info("Container '{}' started in {} ms", node.name, timing.durationMillis());
+            return timing;
+        });
+    }
+
+    // Walks back from the node that finished last, always following the dependency that finished last
+    private List<String> criticalPath(Map<String, NodeTiming> timings) {
+        Deque<String> path = new ArrayDeque<>();
+        String current = timings.values().stream()
+                .max(Comparator.comparingLong(NodeTiming::finishMillis))
+                .map(NodeTiming::name)
+                .orElse(null);
+        while (current != null) {
+            path.addFirst(current);
+            current = nodes.get(current).dependsOn.stream()
+                    .max(Comparator.comparingLong(dependency -> timings.get(dependency).finishMillis()))
+                    .orElse(null);
+        }
+        return List.copyOf(path);
+    }
+
+    private int declarationIndex(String name) {
+        return new ArrayList<>(nodes.keySet()).indexOf(name);
+    }
+
+    private static final class Node {
+        private final String name;
+        private final Startable container;
+        private final List<String> dependsOn;
+
+        private Node(String name, Startable container, List<String> dependsOn) {
+            this.name = name;
+            this.container = container;
+            this.dependsOn = List.copyOf(new LinkedHashSet<>(dependsOn));
+        }
+    }
+
+    /**
+     * Start timing of a single node, relative to the start of the whole graph.
+     */
+    public record NodeTiming(String name, int level, long startOffsetMillis, long durationMillis) {
+
+        public long finishMillis() {
+            return startOffsetMillis + durationMillis;
+        }
+    }
+
+    /**
+     * Result of {@link #start()}.
+     */
+    public record StartReport(long totalMillis, List<NodeTiming> nodes, List<String> criticalPath) {
+
+        /**
+         * Sum of the start latencies along the critical path.
+         * @return Duration in milliseconds
+         */
+        public long criticalPathMillis() {
+            Set<String> onPath = Set.copyOf(criticalPath);
+            return nodes.stream()
+                    .filter(timing -> onPath.contains(timing.name()))
+                    .mapToLong(NodeTiming::durationMillis)
+                    .sum();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.containerstart;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.lifecycle.Startable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the graph with stand-in Startables, so no Docker is needed.
+ */
+public class ContainerGraphTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldStopStartedNodesInReverseOrderWhenANodeFails() {
+        ContainerGraph graph = ContainerGraph.create()
+                .node("db", startable("db", false))
+                .node("cache", startable("cache", false), "db")
+                .node("broker", startable("broker", true), "db")
+                .node("app", startable("app", false), "cache", "broker");
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, graph::start);
+
+        assertEquals("broker failed", failure.getMessage());
+        // app never starts because broker failed; cache and db were running and are stopped, dependents first
+        assertEquals(List.of("stop:cache", "stop:db"), events.stream().filter(e -> e.startsWith("stop:")).toList());
+    }
+
+    private Startable startable(String name, boolean fails) {
+        return new Startable() {
+            @Override
+            public void start() {
+                if (fails) {
+                    throw new IllegalStateException(name + " failed");
+                }
+                events.add("start:" + name);
+            }
+
+            @Override
+            public void stop() {
+                events.add("stop:" + name);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.containerstart;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.AfterAll;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GraphContainerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GraphContainerTest.class);
+
+    private static PostgreSQLContainer<?> postgresContainer;
+    private static GenericContainer<?> redisContainer;
+    private static GenericContainer<?> appContainer;
+    private static ContainerGraph graph;
+    private static ContainerGraph.StartReport report;
+
+    @BeforeAll
+    static void startContainers() {
+        postgresContainer = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withDatabaseName("testdb")
+                .withUsername("testuser")
+                .withPassword("testpass");
+
+        redisContainer = new GenericContainer<>("redis:7-alpine")
+                .withExposedPorts(6379);
+
+        appContainer = new GenericContainer<>("alpine:latest")
+                .withCommand("sh", "-c", "echo Application started after DB and cache && sleep 30");
+
+        // Postgres and Redis start together, the app waits for both
+        graph = ContainerGraph.create()
+                .node("postgres", postgresContainer)
+                .node("redis", redisContainer)
+                .node("app", appContainer, "postgres", "redis");
+
+        report = graph.start();
+
+        report.nodes().forEach(node -> logger.info("{} (level {}) started at +{} ms in {} ms",
+                node.name(), node.level(), node.startOffsetMillis(), node.durationMillis()));
+        logger.info("Total graph startup time: {} ms", report.totalMillis());
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        graph.stop();
+    }
+
+    @Test
+    void containersRunning() {
+        assertTrue(postgresContainer.isRunning());
+        assertTrue(redisContainer.isRunning());
+        assertTrue(appContainer.isRunning());
+    }
+
+    @Test
+    void appIsOnCriticalPath() {
+        assertEquals("app", report.criticalPath().get(report.criticalPath().size() - 1));
+        assertEquals(2, report.criticalPath().size(), "Critical path should be one dependency plus the app");
+    }
+}
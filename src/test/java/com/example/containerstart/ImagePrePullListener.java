@@ -0,0 +1,333 @@
+package com.example.containerstart;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.ImageNameSubstitutor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pulls the images the test suite needs, concurrently, before the first test starts.
+ *
+ * Startables.deepStart overlaps container starts, but each container still pulls its own image when it
+ * starts, so a cold machine downloads one image after the other. This listener (registered in
+ * META-INF/services) runs once the test plan is discovered and pulls, using a bounded pool, the images
+ * the planned container tests need that are not present locally. Names go through
+ * {@link ImageNameSubstitutor#instance()} and pulls go through {@link RemoteDockerImage}, so registry
+ * prefixes such as a local registry stand-in, registry auth and the Testcontainers image cache behave
+ * exactly as they do for containers.
+ *
+ * {@code prepull-images.txt} lists the images the suite uses. An image is pulled only when one of the
+ * planned container test classes, a superclass or a nested class holds its name as a string literal, so
+ * a single class started from the IDE pulls just its own images. Names assembled at runtime are not
+ * seen; those images are pulled by the container that needs them, as without this listener.
+ *
+ * System properties:
+ * <ul>
+ * <li>{@code prepull.enabled} - set to false to skip the warm-up (default true)</li>
+ * <li>{@code prepull.parallelism} - concurrent pulls (default 4)</li>
+ * <li>{@code prepull.timeout.minutes} - overall limit, remaining pulls are left to the tests (default 10)</li>
+ * </ul>
+ *
+ * Plans without container tests, such as a unit-only run or a single test started from the IDE, skip the
+ * warm-up before Docker is even probed: a class counts as a container test when it or a superclass is annotated
+ * with {@code @Testcontainers} or declares a container field. Nothing happens when Docker is unavailable; failed
+ * pulls are logged and left to the container that needs the image.
+ */
+public class ImagePrePullListener implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePrePullListener.class);
+
+    static final String IMAGES_RESOURCE = "prepull-images.txt";
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (!Boolean.parseBoolean(System.getProperty("prepull.enabled", "true"))) {
+            logger.info("Image pre-pull disabled");
+            return;
+        }
+        List<Class<?>> containerTests = containerTestClasses(testPlan);
+        if (containerTests.isEmpty()) {
+            logger.debug("No container tests in the test plan, skipping image pre-pull");
+            return;
+        }
+        List<String> images = referencedImages(readImages(IMAGES_RESOURCE), containerTests);
+        if (images.isEmpty()) {
+            logger.debug("No listed image is referenced by the planned container tests, skipping image pre-pull");
+            return;
+        }
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            logger.info("Docker is not available, skipping image pre-pull");
+            return;
+        }
+        prePull(images, Integer.getInteger("prepull.parallelism", 4),
+                Integer.getInteger("prepull.timeout.minutes", 10));
+    }
+
+    private static List<Class<?>> containerTestClasses(TestPlan testPlan) {
+        List<Class<?>> containerTests = new ArrayList<>();
+        List<TestIdentifier> pending = new ArrayList<>(testPlan.getRoots());
+        while (!pending.isEmpty()) {
+            TestIdentifier identifier = pending.remove(pending.size() - 1);
+            Optional<Class<?>> testClass = identifier.getSource()
+                    .filter(ClassSource.class::isInstance)
+                    .map(source -> loadWithoutInitializing(((ClassSource) source).getClassName()));
+            if (testClass.isPresent()) {
+                // Class-level decision, the methods underneath need no look
+                if (usesContainers(testClass.get())) {
+                    containerTests.add(testClass.get());
+                }
+                continue;
+            }
+            pending.addAll(testPlan.getChildren(identifier));
+        }
+        return containerTests;
+    }
+
+    // Listed images whose name is a string constant in a test class, one of its superclasses or nested classes
+    static List<String> referencedImages(List<String> listed, List<Class<?>> testClasses) {
+        Set<Class<?>> scanned = new HashSet<>();
+        List<Class<?>> pending = new ArrayList<>(testClasses);
+        Set<String> referenced = new HashSet<>();
+        while (!pending.isEmpty() && referenced.size() < listed.size()) {
+            Class<?> type = pending.remove(pending.size() - 1);
+            if (type == null || type == Object.class || !scanned.add(type)) {
+                continue;
+            }
+            byte[] classFile = readClassFile(type);
+            for (String image : listed) {
+                if (containsStringConstant(classFile, image)) {
+                    referenced.add(image);
+                }
+            }
+            pending.add(type.getSuperclass());
+            try {
+                pending.addAll(List.of(type.getDeclaredClasses()));
+            } catch (LinkageError e) {
+                // A nested class that cannot be loaded cannot reference an image either
+            }
+        }
+        return listed.stream().filter(referenced::contains).toList();
+    }
+
+    private static byte[] readClassFile(Class<?> type) {
+        String resource = type.getName().replace('.', '/') + ".class";
+        ClassLoader loader = type.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : type.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            return in == null ? new byte[0] : in.readAllBytes();
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    // A literal is stored in the constant pool as a CONSTANT_Utf8 entry: tag 1, a two-byte length, the bytes
+    private static boolean containsStringConstant(byte[] classFile, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        byte[] entry = new byte[bytes.length + 3];
+        entry[0] = 1;
+        entry[1] = (byte) (bytes.length >> 8);
+        entry[2] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, entry, 3, bytes.length);
+        outer:
+        for (int i = 0; i <= classFile.length - entry.length; i++) {
+            for (int j = 0; j < entry.length; j++) {
+                if (classFile[i + j] != entry[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean usesContainers(Class<?> testClass) {
+        for (Class<?> type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (type.isAnnotationPresent(Testcontainers.class)) {
+                return true;
+            }
+            for (Field field : type.getDeclaredFields()) {
+                if (Startable.class.isAssignableFrom(field.getType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Loading without initialization keeps static container fields from being constructed here
+    private static Class<?> loadWithoutInitializing(String className) {
+        try {
+            return Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Pulls the missing images and logs one line per image plus a summary.
+     * @return Outcome per image, in list order
+     */
+    public static List<PullResult> prePull(List<String> images, int parallelism, long timeoutMinutes) {
+        DockerClient client = DockerClientFactory.lazyClient();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), new PullThreadFactory());
+        long startTime = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(timeoutMinutes);
+        List<PullResult> results = new ArrayList<>();
+        try {
+            List<Future<PullResult>> futures = new ArrayList<>();
+            for (String image : images) {
+                futures.add(executor.submit(() -> pull(client, image)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(await(futures.get(i), images.get(i), deadline));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long pulledImageBytes = 0;
+        int pulled = 0;
+        for (PullResult result : results) {
+            logger.info("  {}", result);
+            if (result.status() == Status.PULLED) {
+                pulled++;
+                pulledImageBytes += result.imageSizeBytes();
+            }
+        }
+        logger.info("Image pre-pull: {} of {} images pulled ({} image size) in {} ms with {} parallel pulls",
+                pulled, results.size(), megabytes(pulledImageBytes), System.currentTimeMillis() - startTime,
+                parallelism);
+        return results;
+    }
+
+    private static PullResult pull(DockerClient client, String image) {
+        DockerImageName requested = DockerImageName.parse(image);
+        String resolved = ImageNameSubstitutor.instance().apply(requested).asCanonicalNameString();
+        long startTime = System.currentTimeMillis();
+        try {
+            Long cachedSize = localImageSize(client, resolved);
+            if (cachedSize != null) {
+                return new PullResult(image, resolved, Status.CACHED, cachedSize, 0, null);
+            }
+            // RemoteDockerImage applies the substitutor itself, so hand it the requested name
+            new RemoteDockerImage(requested).get();
+            Long size = localImageSize(client, resolved);
+            return new PullResult(image, resolved, Status.PULLED, size == null ? 0 : size,
+                    System.currentTimeMillis() - startTime, null);
+        } catch (RuntimeException e) {
+            return new PullResult(image, resolved, Status.FAILED, 0, System.currentTimeMillis() - startTime,
+                    e.getMessage());
+        }
+    }
+
+    private static PullResult await(Future<PullResult> future, String image, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return new PullResult(image, image, Status.FAILED, 0, 0, "pre-pull timeout reached");
+        } catch (ExecutionException e) {
+            return new PullResult(image, image, Status.FAILED, 0, 0, String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new PullResult(image, image, Status.FAILED, 0, 0, "interrupted");
+        }
+    }
+
+    private static Long localImageSize(DockerClient client, String image) {
+        try {
+            return client.inspectImageCmd(image).exec().getSize();
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    static List<String> readImages(String resource) {
+        Set<String> images = new LinkedHashSet<>();
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return List.of();
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    images.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+        return List.copyOf(images);
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    public enum Status {
+        CACHED, PULLED, FAILED
+    }
+
+    /**
+     * Outcome for one image; {@code imageSizeBytes} is the unpacked local image size, not the bytes downloaded,
+     * which are smaller (compressed) or fewer (layers shared with images already present).
+     */
+    public record PullResult(String image, String resolvedImage, Status status, long imageSizeBytes, long millis,
+                             String error) {
+
+        @Override
+        public String toString() {
+            String name = image.equals(resolvedImage) ? image : image + " -> " + resolvedImage;
+            return switch (status) {
+                case CACHED -> name + ": already present (image size " + megabytes(imageSizeBytes) + ")";
+                case PULLED -> name + ": pulled in " + millis + " ms (image size " + megabytes(imageSizeBytes) + ")";
+                case FAILED -> name + ": FAILED after " + millis + " ms (" + error + ")";
+            };
+        }
+    }
+
+    private static class PullThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "image-prepull-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
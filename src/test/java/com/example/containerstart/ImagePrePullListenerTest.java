@@ -0,0 +1,40 @@
+package com.example.containerstart;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Image selection only reads class files, so no Docker is needed.
+ */
+class ImagePrePullListenerTest {
+
+    private static final List<String> LISTED = List.of("postgres:15", "postgres:15-alpine", "redis:7-alpine",
+            "elasticsearch:8.5.0");
+
+    @Test
+    void onlyImagesNamedByThePlannedClassesArePulled() {
+        assertEquals(List.of("postgres:15-alpine"),
+                ImagePrePullListener.referencedImages(LISTED, List.of(UsesPostgres.class)));
+    }
+
+    @Test
+    void superclassesAndNestedClassesAreScanned() {
+        assertEquals(List.of("postgres:15-alpine", "redis:7-alpine", "elasticsearch:8.5.0"),
+                ImagePrePullListener.referencedImages(LISTED, List.of(UsesRedisAndInheritsPostgres.class)));
+    }
+
+    static class UsesPostgres {
+        static final String IMAGE = "postgres:15-alpine";
+    }
+
+    static class UsesRedisAndInheritsPostgres extends UsesPostgres {
+        static final String CACHE_IMAGE = "redis:7-alpine";
+
+        static class Search {
+            static final String SEARCH_IMAGE = "elasticsearch:8.5.0";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.datasource;
+
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cheap way to bring a running database back to an empty state without restarting its container.
+ * The schema is kept; only the rows are removed.
+ */
+@FunctionalInterface
+public interface DatabaseReset {
+
+    void reset(JdbcDatabaseContainer<?> container) throws SQLException;
+
+    /**
+     * Picks the truncate strategy that matches the container type.
+     * @param container MySQL or PostgreSQL container
+     * @return DatabaseReset instance
+     */
+    static DatabaseReset forContainer(JdbcDatabaseContainer<?> container) {
+        if (container instanceof MySQLContainer) {
+            return truncateMySqlTables();
+        }
+        if (container instanceof PostgreSQLContainer) {
+            return truncatePostgresTables();
+        }
+        throw new IllegalArgumentException("No reset strategy for " + container.getClass().getSimpleName());
+    }
+
+    /**
+     * Truncates every base table of the current MySQL schema with foreign key checks disabled.
+     * @return DatabaseReset instance
+     */
+    static DatabaseReset truncateMySqlTables() {
+        return container -> {
+            try (Connection conn = DriverManager.getConnection(
+                    container.getJdbcUrl(), container.getUsername(), container.getPassword());
+                 Statement stmt = conn.createStatement()) {
+
+                List<String> tables = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery("""
+                        SELECT table_name
+                        FROM information_schema.tables
+                        WHERE table_schema = DATABASE() AND table_type = 'BASE TABLE'
+                        """)) {
+                    while (rs.next()) {
+                        tables.add(rs.getString(1));
+                    }
+                }
+
+                stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
+                try {
+                    for (String table : tables) {
+                        stmt.execute("TRUNCATE TABLE `" + table + "`");
+                    }
+                } finally {
+                    stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+                }
+            }
+        };
+    }
+
+    /**
+     * Truncates every table of the public schema in a single statement and restarts their sequences.
+     * @return DatabaseReset instance
+     */
+    static DatabaseReset truncatePostgresTables() {
+        return container -> {
+            try (Connection conn = DriverManager.getConnection(
+                    container.getJdbcUrl(), container.getUsername(), container.getPassword());
+                 Statement stmt = conn.createStatement()) {
+
+                List<String> tables = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT quote_ident(tablename) FROM pg_tables WHERE schemaname = 'public'")) {
+                    while (rs.next()) {
+                        tables.add(rs.getString(1));
+                    }
+                }
+
+                if (!tables.isEmpty()) {
+                    stmt.execute("TRUNCATE TABLE " + String.join(", ", tables) + " RESTART IDENTITY CASCADE");
+                }
+            }
+        };
+    }
+}
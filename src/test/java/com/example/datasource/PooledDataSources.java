@@ -0,0 +1,207 @@
+package com.example.datasource;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * PooledDataSources hands out one pooled {@link DataSource} (HikariCP) per database container, shared by every
+ * test class that uses the container.
+ *
+ * {@code DriverManager.getConnection} does a full TCP connect and authentication handshake per call, which
+ * dominates query-heavy tests. The pool keeps connections open and checks them with the JDBC4
+ * {@code Connection.isValid} call when they are borrowed after being idle. Pools are keyed by JDBC URL and user
+ * and closed when
+ * <ul>
+ * <li>{@link #close(JdbcDatabaseContainer)} is called, which must happen before the container is stopped,</li>
+ * <li>the next lookup finds the URL now belongs to a different container,</li>
+ * <li>the JVM shuts down.</li>
+ * </ul>
+ * Lookups never ask Docker whether a container is still running: {@code forContainer} is called for every
+ * borrowed connection, and an inspect round trip per open pool would cost more than the pool saves.
+ *
+ * Pool settings come from system properties:
+ * <ul>
+ * <li>{@code datasource.pool.maxSize} - maximum connections per container (default 10)</li>
+ * <li>{@code datasource.pool.minIdle} - connections kept open while idle (default 2)</li>
+ * <li>{@code datasource.pool.connectionTimeoutMs} - maximum wait for a free connection (default 10000)</li>
+ * </ul>
+ */
+public final class PooledDataSources {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledDataSources.class);
+
+    private static final Map<String, Pool> POOLS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PooledDataSources::closeAll, "pooled-datasources"));
+    }
+
+    private PooledDataSources() {
+    }
+
+    /**
+     * Returns the pooled DataSource for the given, already started, container.
+     * @param container Running database container
+     * @return DataSource shared by everyone using this container
+     */
+    public static DataSource forContainer(JdbcDatabaseContainer<?> container) {
+        return pool(container).dataSource;
+    }
+
+    /**
+     * Current pool state and counters since the pool was created.
+     */
+    public static PoolMetrics metrics(JdbcDatabaseContainer<?> container) {
+        return pool(container).metrics();
+    }
+
+    /**
+     * Closes and forgets the pool of this container. Safe to call more than once.
+     */
+    public static void close(JdbcDatabaseContainer<?> container) {
+        POOLS.values().removeIf(pool -> {
+            if (Objects.equals(pool.containerId, container.getContainerId())) {
+                pool.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Closes all pools, e.g. at the end of a suite.
+     */
+    public static void closeAll() {
+        POOLS.values().removeIf(pool -> {
+            pool.close();
+            return true;
+        });
+    }
+
+    private static Pool pool(JdbcDatabaseContainer<?> container) {
+        String key = container.getJdbcUrl() + "|" + container.getUsername();
+        String containerId = container.getContainerId();
+        return POOLS.compute(key, (url, existing) -> {
+            if (existing != null && Objects.equals(existing.containerId, containerId)) {
+                return existing;
+            }
+            if (existing != null) {
+                // Same host port, new container: the pooled connections point at a dead server
+                existing.close();
+            }
+            return new Pool(containerId, container);
+        });
+    }
+
+    /**
+     * Snapshot of one pool.
+     * @param active Connections currently borrowed
+     * @param idle Open connections waiting in the pool
+     * @param total Open connections
+     * @param waiting Threads waiting for a connection
+     * @param created Physical connections opened since the pool was created
+     * @param acquired Connections handed out since the pool was created
+     * @param meanAcquireMillis Average time a caller waited for a connection
+     * @param timeouts Borrow attempts that gave up after the connection timeout
+     */
+    public record PoolMetrics(int active, int idle, int total, int waiting, long created, long acquired,
+                              double meanAcquireMillis, long timeouts) {
+    }
+
+    private static final class Pool {
+
+        private final String containerId;
+        private final HikariDataSource dataSource;
+        private final Counters counters = new Counters();
+
+        private Pool(String containerId, JdbcDatabaseContainer<?> container) {
+            this.containerId = containerId;
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("tc-" + container.getDatabaseName() + "-" + shortId(containerId));
+            config.setJdbcUrl(container.getJdbcUrl());
+            config.setUsername(container.getUsername());
+            config.setPassword(container.getPassword());
+            config.setDriverClassName(container.getDriverClassName());
+            config.setMaximumPoolSize(Integer.getInteger("datasource.pool.maxSize", 10));
+            config.setMinimumIdle(Integer.getInteger("datasource.pool.minIdle", 2));
+            config.setConnectionTimeout(Long.getLong("datasource.pool.connectionTimeoutMs", 10_000L));
+            config.setValidationTimeout(2_000);
+            config.setMetricsTrackerFactory(counters);
+
+            long startTime = System.currentTimeMillis();
+            this.dataSource = new HikariDataSource(config);
+            logger.info("Connection pool {} for {} started in {} ms (max {} connections)", config.getPoolName(),
+                    container.getJdbcUrl(), System.currentTimeMillis() - startTime, config.getMaximumPoolSize());
+        }
+
+        private PoolMetrics metrics() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            long acquired = counters.acquired.sum();
+            double meanAcquireMillis = acquired == 0 ? 0
+                    : TimeUnit.NANOSECONDS.toMicros(counters.acquireNanos.sum()) / 1000.0 / acquired;
+            return new PoolMetrics(pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(),
+                    pool.getThreadsAwaitingConnection(), counters.created.sum(), acquired, meanAcquireMillis,
+                    counters.timeouts.sum());
+        }
+
+        private void close() {
+            if (!dataSource.isClosed()) {
+                logger.info("Closing connection pool {}: {}", dataSource.getPoolName(), metrics());
+                dataSource.close();
+            }
+        }
+
+        private static String shortId(String containerId) {
+            return containerId == null ? "none" : containerId.substring(0, Math.min(12, containerId.length()));
+        }
+    }
+
+    /**
+     * Receives HikariCP's per-connection callbacks; counters only, so nothing is retained per connection.
+     */
+    private static final class Counters implements MetricsTrackerFactory, IMetricsTracker {
+
+        private final LongAdder created = new LongAdder();
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            return this;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.increment();
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquired.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
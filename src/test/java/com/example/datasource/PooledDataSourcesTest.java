@@ -0,0 +1,80 @@
+package com.example.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs many short queries through the shared pool and checks that only a handful of physical
+ * connections were opened for them.
+ */
+@Testcontainers
+public class PooledDataSourcesTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledDataSourcesTest.class);
+    private static final int QUERIES = 500;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @AfterAll
+    static void closeDataSource() {
+        PooledDataSources.close(postgres);
+    }
+
+    @Test
+    void shouldShareOnePoolPerContainer() {
+        assertSame(PooledDataSources.forContainer(postgres), PooledDataSources.forContainer(postgres));
+    }
+
+    @Test
+    void shouldServeManyQueriesFromFewConnections() throws Exception {
+        DataSource dataSource = PooledDataSources.forContainer(postgres);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long startTime = System.currentTimeMillis();
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < QUERIES; i++) {
+                int value = i;
+                results.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement();
+                         ResultSet rs = statement.executeQuery("SELECT " + value)) {
+                        rs.next();
+                        return rs.getInt(1);
+                    }
+                }));
+            }
+            for (int i = 0; i < QUERIES; i++) {
+                assertEquals(i, results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        PooledDataSources.PoolMetrics metrics = PooledDataSources.metrics(postgres);
+        logger.info("{} queries in {} ms: {}", QUERIES, System.currentTimeMillis() - startTime, metrics);
+        assertTrue(metrics.acquired() >= QUERIES, "Every query should borrow from the pool");
+        assertTrue(metrics.created() <= 10, "Connections should be reused, created " + metrics.created());
+        assertEquals(0, metrics.timeouts());
+    }
+}
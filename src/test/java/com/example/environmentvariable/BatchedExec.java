@@ -0,0 +1,155 @@
+package com.example.environmentvariable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * Runs several commands in a container with a single {@code execInContainer} call.
+ *
+ * Every execInContainer is a Docker exec create, start and inspect round trip, so four {@code printenv} calls
+ * cost four of them. BatchedExec joins the commands into one {@code sh -c} script that prints a unique marker
+ * before and after each command on stdout and stderr, then splits the output back into one
+ * {@link CommandResult} per command. Each command runs in its own subshell, so a failing command or an
+ * {@code exit} does not stop the following ones.
+ *
+ * {@link #environment(GenericContainer)} reads the environment of the container's main process from
+ * {@code /proc/1/environ} in one call. The image needs {@code sh} (and {@code cat} for the environment);
+ * distroless images have neither.
+ */
+public final class BatchedExec {
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchedExec.class);
+
+	private final GenericContainer<?> container;
+	private final List<List<String>> commands = new ArrayList<>();
+
+	private BatchedExec(GenericContainer<?> container) {
+		this.container = container;
+	}
+
+	/**
+	 * Starts a batch for the given, running, container.
+	 */
+	public static BatchedExec in(GenericContainer<?> container) {
+		return new BatchedExec(container);
+	}
+
+	/**
+	 * Adds a command; arguments are passed as they are, without shell expansion.
+	 */
+	public BatchedExec add(String... command) {
+		if (command.length == 0) {
+			throw new IllegalArgumentException("Command must not be empty");
+		}
+		commands.add(List.of(command));
+		return this;
+	}
+
+	/**
+	 * Runs all added commands in one exec session.
+	 * @return One result per command, in the order they were added
+	 */
+	public List<CommandResult> run() throws IOException, InterruptedException {
+		if (commands.isEmpty()) {
+			return List.of();
+		}
+		String marker = "__batched_exec_" + UUID.randomUUID().toString().replace("-", "") + "__";
+		long startTime = System.currentTimeMillis();
+		ExecResult result = container.execInContainer("sh", "-c", script(marker, commands));
+		List<CommandResult> results = parse(marker, commands, result.getStdout(), result.getStderr());
+		logger.debug("Ran {} commands in one exec in {} ms", commands.size(), System.currentTimeMillis() - startTime);
+		return results;
+	}
+
+	/**
+	 * Reads the environment of the container's main process with a single exec.
+	 * @return Variables in the order the process received them
+	 */
+	public static Map<String, String> environment(GenericContainer<?> container)
+			throws IOException, InterruptedException {
+		ExecResult result = container.execInContainer("cat", "/proc/1/environ");
+		if (result.getExitCode() != 0) {
+			throw new IllegalStateException("Cannot read /proc/1/environ: " + result.getStderr().trim());
+		}
+		return parseEnvironment(result.getStdout());
+	}
+
+	// NUL-separated NAME=value entries; values may contain newlines and '='
+	static Map<String, String> parseEnvironment(String environ) {
+		Map<String, String> environment = new LinkedHashMap<>();
+		for (String entry : environ.split("\0")) {
+			int separator = entry.indexOf('=');
+			if (separator > 0) {
+				environment.put(entry.substring(0, separator), entry.substring(separator + 1));
+			}
+		}
+		return environment;
+	}
+
+	static String script(String marker, List<List<String>> commands) {
+		StringBuilder script = new StringBuilder();
+		for (int i = 0; i < commands.size(); i++) {
+			script.append("printf '%s\\n' '").append(marker).append(":begin:").append(i).append("'; ")
+					.append("printf '%s\\n' '").append(marker).append(":begin:").append(i).append("' >&2; ")
+					.append('(');
+			for (String argument : commands.get(i)) {
+				script.append(' ').append(quote(argument));
+			}
+			// The newline before the end marker separates it from output without a trailing newline
+			script.append(" ) </dev/null; ")
+					.append("printf '\\n%s:%d\\n' '").append(marker).append(":end:").append(i).append("' $?; ")
+					.append("printf '\\n%s\\n' '").append(marker).append(":end:").append(i).append("' >&2\n");
+		}
+		return script.toString();
+	}
+
+	static List<CommandResult> parse(String marker, List<List<String>> commands, String stdout, String stderr) {
+		List<CommandResult> results = new ArrayList<>();
+		for (int i = 0; i < commands.size(); i++) {
+			String endMarker = "\n" + marker + ":end:" + i;
+			String out = section(stdout, marker + ":begin:" + i + "\n", endMarker + ":");
+			String err = section(stderr, marker + ":begin:" + i + "\n", endMarker + "\n");
+			int exitCode = -1;
+			if (out != null) {
+				int codeStart = stdout.indexOf(endMarker + ":") + endMarker.length() + 1;
+				exitCode = Integer.parseInt(stdout.substring(codeStart, stdout.indexOf('\n', codeStart)));
+			}
+			results.add(new CommandResult(commands.get(i), out == null ? "" : out, err == null ? "" : err, exitCode));
+		}
+		return results;
+	}
+
+	// Text between the two markers, or null when the batch stopped before this command finished
+	private static String section(String output, String begin, String end) {
+		int start = output.indexOf(begin);
+		if (start < 0) {
+			return null;
+		}
+		start += begin.length();
+		int stop = output.indexOf(end, start);
+		return stop < 0 ? null : output.substring(start, stop);
+	}
+
+	private static String quote(String argument) {
+		return "'" + argument.replace("'", "'\\''") + "'";
+	}
+
+	/**
+	 * Output of one command of a batch; exitCode is -1 when the batch ended before the command completed.
+	 */
+	public record CommandResult(List<String> command, String stdout, String stderr, int exitCode) {
+
+		public boolean isSuccess() {
+			return exitCode == 0;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.environmentvariable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.environmentvariable.BatchedExec.CommandResult;
+
+/**
+ * Runs the generated batch script with the local sh, so the marker handling is checked without Docker.
+ */
+public class BatchedExecTest {
+
+	private static final String MARKER = "__batched_exec_test__";
+
+	@Test
+	void splitsOutputAndExitCodePerCommand() throws Exception {
+		List<CommandResult> results = runLocally(List.of(
+				List.of("printf", "no trailing newline"),
+				List.of("sh", "-c", "echo out; echo err >&2; exit 3"),
+				List.of("echo", "it's $HOME and `quoted`"),
+				List.of("sh", "-c", "exit 0")));
+
+		assertEquals("no trailing newline", results.get(0).stdout());
+		assertEquals(0, results.get(0).exitCode());
+
+		assertEquals("out\n", results.get(1).stdout());
+		assertEquals("err\n", results.get(1).stderr());
+		assertEquals(3, results.get(1).exitCode());
+		assertFalse(results.get(1).isSuccess());
+
+		// Arguments are not expanded by the shell
+		assertEquals("it's $HOME and `quoted`\n", results.get(2).stdout());
+		assertEquals(0, results.get(3).exitCode());
+	}
+
+	@Test
+	void parsesProcEnviron() {
+		Map<String, String> environment = BatchedExec.parseEnvironment(
+				"PATH=/usr/bin\0POSTGRES_DB=testdb\0MULTI=a=b\nc\0");
+
+		assertEquals(Map.of("PATH", "/usr/bin", "POSTGRES_DB", "testdb", "MULTI", "a=b\nc"), environment);
+	}
+
+	private static List<CommandResult> runLocally(List<List<String>> commands) throws Exception {
+		Process process = new ProcessBuilder("sh", "-c", BatchedExec.script(MARKER, commands)).start();
+		CompletableFuture<String> stderr = CompletableFuture.supplyAsync(() -> read(process.getErrorStream()));
+		String stdout = read(process.getInputStream());
+		process.waitFor();
+		return BatchedExec.parse(MARKER, commands, stdout, stderr.get());
+	}
+
+	private static String read(InputStream in) {
+		try {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.example.environmentvariable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,8 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import com.example.environmentvariable.BatchedExec.CommandResult;
+
 /**
  * This class demonstrates and tests the effectiveness of environment variables
  * in Docker containers, particularly focusing on PostgreSQL containers. It uses
@@ -65,11 +68,17 @@ public class EnvironmentVariableTest {
 
 			postgres.start();
 
-			// Retrieve environment variables directly from the container
-			String db = postgres.execInContainer("printenv", "POSTGRES_DB").getStdout().trim();
-			String user = postgres.execInContainer("printenv", "POSTGRES_USER").getStdout().trim();
-			String pass = postgres.execInContainer("printenv", "POSTGRES_PASSWORD").getStdout().trim();
-			String pgdata = postgres.execInContainer("printenv", "PGDATA").getStdout().trim();
+			// Retrieve environment variables directly from the container, all four in one exec
+			List<CommandResult> results = BatchedExec.in(postgres)
+					.add("printenv", "POSTGRES_DB")
+					.add("printenv", "POSTGRES_USER")
+					.add("printenv", "POSTGRES_PASSWORD")
+					.add("printenv", "PGDATA")
+					.run();
+			String db = results.get(0).stdout().trim();
+			String user = results.get(1).stdout().trim();
+			String pass = results.get(2).stdout().trim();
+			String pgdata = results.get(3).stdout().trim();
 
 			// Log retrieved values for debugging
 			logger.info("POSTGRES_DB: {}", db);
@@ -103,11 +112,12 @@ public class EnvironmentVariableTest {
 
 			postgres.start();
 
-			// Retrieve environment variables directly from the container
-			String db = postgres.execInContainer("printenv", "POSTGRES_DB").getStdout().trim();
-			String user = postgres.execInContainer("printenv", "POSTGRES_USER").getStdout().trim();
-			String pass = postgres.execInContainer("printenv", "POSTGRES_PASSWORD").getStdout().trim();
-			String pgdata = postgres.execInContainer("printenv", "PGDATA").getStdout().trim();
+			// Snapshot the main process environment once instead of one exec per variable
+			Map<String, String> environment = BatchedExec.environment(postgres);
+			String db = environment.get("POSTGRES_DB");
+			String user = environment.get("POSTGRES_USER");
+			String pass = environment.get("POSTGRES_PASSWORD");
+			String pgdata = environment.get("PGDATA");
 
 			// Log retrieved values for debugging
 			logger.info("POSTGRES_DB: {}", db);
@@ -0,0 +1,203 @@
+package com.example.filecopyandbind;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.MountableFile;
+
+import com.example.datasource.PooledDataSources;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/*
+ * Filesystem checkpoints of a database container: the data directory is tarred once after seeding
+ * and swapped back in whenever a test needs the seeded state again, without re-running any SQL.
+ *
+ * The database server normally runs as PID 1, so stopping it stops the container. supervise() puts a
+ * small shell loop in front of the image entrypoint that restarts the server whenever it exits,
+ * unless a hold file exists. A checkpoint or restore creates the hold file, shuts the server down
+ * cleanly, copies the data directory, removes the hold file and waits until the restarted server
+ * accepts connections. The container, its ports and its JDBC URL stay the same.
+ *
+ * Tarballs live in CHECKPOINT_DIR inside the container; mount a tmpfs there with
+ * withTmpFs(Map.of(DatabaseCheckpoint.CHECKPOINT_DIR, "rw")) to keep them off the storage driver.
+ * exportTo() copies one out with copyFileFromContainer so another container can importFrom() it.
+ */
+public final class DatabaseCheckpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseCheckpoint.class);
+
+    public static final String CHECKPOINT_DIR = "/var/lib/db-checkpoints";
+
+    private static final String HOLD_FILE = "/tmp/db-supervisor.hold";
+    private static final String PID_FILE = "/tmp/db-supervisor.pid";
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+
+    // Restarts the server ("$@") until the hold file exists; docker stop shuts the server down cleanly
+    private static final String SUPERVISOR = """
+            trap 'touch %1$s; kill -TERM $(cat %2$s) 2>/dev/null; wait; exit 0' TERM INT
+            while :; do
+              if [ -e %1$s ]; then sleep 0.1; continue; fi
+              "$@" &
+              echo $! > %2$s
+              wait $!
+            done
+            """.formatted(HOLD_FILE, PID_FILE);
+
+    // Holds the server, waits for it to exit, runs the given commands and always releases the hold
+    private static final String STOPPED = """
+            set -e
+            [ -f %1$s ] || { echo "container is not supervised, see DatabaseCheckpoint.supervise" >&2; exit 3; }
+            trap 'rm -f %2$s' EXIT
+            touch %2$s
+            pid=$(cat %1$s)
+            kill -%3$s "$pid" 2>/dev/null || true
+            while kill -0 "$pid" 2>/dev/null; do sleep 0.1; done
+            %4$s
+            """;
+
+    private enum Dialect {
+        // SIGINT is a fast shutdown; SIGTERM would wait for every client to disconnect
+        POSTGRES("/var/lib/postgresql/data", "INT", "postgres"),
+        MYSQL("/var/lib/mysql", "TERM", "mysqld");
+
+        private final String dataDir;
+        private final String stopSignal;
+        private final String defaultCommand;
+
+        Dialect(String dataDir, String stopSignal, String defaultCommand) {
+            this.dataDir = dataDir;
+            this.stopSignal = stopSignal;
+            this.defaultCommand = defaultCommand;
+        }
+
+        static Dialect of(JdbcDatabaseContainer<?> container) {
+            if (container instanceof PostgreSQLContainer) {
+                return POSTGRES;
+            }
+            if (container instanceof MySQLContainer) {
+                return MYSQL;
+            }
+            throw new IllegalArgumentException("Checkpoints support PostgreSQL and MySQL containers, not "
+                    + container.getClass().getName());
+        }
+    }
+
+    private final JdbcDatabaseContainer<?> container;
+    private final Dialect dialect;
+    private final String name;
+
+    private DatabaseCheckpoint(JdbcDatabaseContainer<?> container, String name) {
+        this.container = container;
+        this.dialect = Dialect.of(container);
+        this.name = name;
+    }
+
+    // Runs the server of a not yet started container under the supervisor loop; call before start().
+    public static <T extends JdbcDatabaseContainer<?>> T supervise(T container) {
+        Dialect dialect = Dialect.of(container);
+        container.withCreateContainerCmdModifier(cmd -> {
+            // Modifiers run last, so the command set by the container class is already in place
+            String[] command = cmd.getCmd() == null || cmd.getCmd().length == 0
+                    ? new String[] { dialect.defaultCommand }
+                    : cmd.getCmd();
+            cmd.withEntrypoint("sh", "-c", SUPERVISOR, "db-supervisor", "docker-entrypoint.sh").withCmd(command);
+        });
+        return container;
+    }
+
+    // Stops the server, tars its data directory under the given name and starts it again.
+    public static DatabaseCheckpoint take(JdbcDatabaseContainer<?> container, String name) {
+        DatabaseCheckpoint checkpoint = new DatabaseCheckpoint(container, checkName(name));
+        long startTime = System.nanoTime();
+        checkpoint.whileStopped("mkdir -p " + CHECKPOINT_DIR + " && tar -C " + checkpoint.dialect.dataDir
+                + " -cf " + checkpoint.tarball() + " .");
+        logger.info("Checkpoint {} of {} taken in {} ms", name, container.getContainerId(),
+                (System.nanoTime() - startTime) / 1_000_000);
+        return checkpoint;
+    }
+
+    // Copies a tarball written by exportTo() into a supervised container; restore() then loads it.
+    public static DatabaseCheckpoint importFrom(JdbcDatabaseContainer<?> container, String name, Path tarball) {
+        DatabaseCheckpoint checkpoint = new DatabaseCheckpoint(container, checkName(name));
+        container.copyFileToContainer(MountableFile.forHostPath(tarball), checkpoint.tarball());
+        return checkpoint;
+    }
+
+    // Replaces the data directory with this checkpoint; the container keeps running.
+    public void restore() {
+        long startTime = System.nanoTime();
+        String dataDir = dialect.dataDir;
+        whileStopped("rm -rf " + dataDir + "/* " + dataDir + "/.[!.]* && tar -C " + dataDir + " -xpf " + tarball());
+        logger.info("Checkpoint {} restored into {} in {} ms", name, container.getContainerId(),
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    // Copies the checkpoint tarball to the host.
+    public void exportTo(Path destination) {
+        container.copyFileFromContainer(tarball(), destination.toString());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void whileStopped(String commands) {
+        // Pooled connections die with the server; drop the pool so the next forContainer() starts fresh
+        PooledDataSources.close(container);
+        String script = STOPPED.formatted(PID_FILE, HOLD_FILE, dialect.stopSignal, commands);
+        try {
+            ExecResult result = container.execInContainer("sh", "-c", script);
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("Checkpoint " + name + " failed with exit code "
+                        + result.getExitCode() + ": " + result.getStderr().strip());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Checkpoint " + name + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during checkpoint " + name, e);
+        }
+        awaitReady();
+    }
+
+    private void awaitReady() {
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        SQLException lastFailure = null;
+        while (System.nanoTime() < deadline) {
+            try (Connection conn = container.createConnection("")) {
+                if (conn.isValid(1)) {
+                    return;
+                }
+            } catch (SQLException e) {
+                lastFailure = e;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for the database to restart", e);
+            }
+        }
+        throw new IllegalStateException("Database did not restart within " + READY_TIMEOUT.toSeconds() + " s",
+                lastFailure);
+    }
+
+    private String tarball() {
+        return CHECKPOINT_DIR + "/" + name + ".tar";
+    }
+
+    private static String checkName(String name) {
+        if (!name.matches("[A-Za-z0-9_-]+")) {
+            throw new IllegalArgumentException("Checkpoint names may only use letters, digits, '_' and '-': " + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.filecopyandbind;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.BindMode;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.example.datasource.PooledDataSources;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Seeds PostgreSQL and MySQL once from the bound init scripts, checkpoints both and restores the
+ * checkpoint after every test, so each test may change data freely and still starts from the seed.
+ */
+public class DatabaseCheckpointTest {
+
+    private static final PostgreSQLContainer<?> postgres = DatabaseCheckpoint.supervise(
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("testdb")
+                    .withFileSystemBind(
+                            Paths.get("src/test/resources/postgres/schema.sql").toAbsolutePath().toString(),
+                            "/docker-entrypoint-initdb.d/01-schema.sql",
+                            BindMode.READ_ONLY)
+                    .withFileSystemBind(
+                            Paths.get("src/test/resources/postgres/data.sql").toAbsolutePath().toString(),
+                            "/docker-entrypoint-initdb.d/02-data.sql",
+                            BindMode.READ_ONLY));
+
+    private static final MySQLContainer<?> mysql = DatabaseCheckpoint.supervise(
+            new MySQLContainer<>("mysql:8.0")
+                    .withDatabaseName("testdb")
+                    .withFileSystemBind(
+                            Paths.get("src/test/resources/mysql/schema.sql").toAbsolutePath().toString(),
+                            "/docker-entrypoint-initdb.d/01-schema.sql",
+                            BindMode.READ_ONLY)
+                    .withFileSystemBind(
+                            Paths.get("src/test/resources/mysql/data.sql").toAbsolutePath().toString(),
+                            "/docker-entrypoint-initdb.d/02-data.sql",
+                            BindMode.READ_ONLY));
+
+    private static DatabaseCheckpoint postgresSeeded;
+    private static DatabaseCheckpoint mysqlSeeded;
+
+    @BeforeAll
+    static void startAndCheckpoint() {
+        postgres.start();
+        mysql.start();
+        postgresSeeded = DatabaseCheckpoint.take(postgres, "seeded");
+        mysqlSeeded = DatabaseCheckpoint.take(mysql, "seeded");
+    }
+
+    @AfterEach
+    void restoreSeed() {
+        postgresSeeded.restore();
+        mysqlSeeded.restore();
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        PooledDataSources.close(postgres);
+        PooledDataSources.close(mysql);
+        postgres.stop();
+        mysql.stop();
+    }
+
+    // Deletes all orders; the restore after this test must bring them back for the next one
+    @Test
+    public void shouldStartFromSeedAfterDeletingOrders() throws Exception {
+        for (JdbcDatabaseContainer<?> container : new JdbcDatabaseContainer<?>[] { postgres, mysql }) {
+            assertEquals(2, count(container, "customers"), "Seeded customers in " + container.getDockerImageName());
+            execute(container, "DELETE FROM orders");
+            assertEquals(0, count(container, "orders"));
+        }
+    }
+
+    // Adds customers; the same container keeps serving the restored data directory afterwards
+    @Test
+    public void shouldStartFromSeedAfterInsertingCustomers() throws Exception {
+        String containerId = postgres.getContainerId();
+        for (JdbcDatabaseContainer<?> container : new JdbcDatabaseContainer<?>[] { postgres, mysql }) {
+            assertTrue(count(container, "orders") > 0, "Seeded orders in " + container.getDockerImageName());
+            execute(container, "INSERT INTO customers (name, email) VALUES ('Extra', 'extra@example.com')");
+            assertEquals(3, count(container, "customers"));
+        }
+
+        postgresSeeded.restore();
+
+        assertEquals(containerId, postgres.getContainerId(), "Restore must not replace the container");
+        assertEquals(2, count(postgres, "customers"));
+    }
+
+    @Test
+    public void shouldExportCheckpointTarball(@TempDir Path dir) throws Exception {
+        Path tarball = dir.resolve("postgres-seeded.tar");
+
+        postgresSeeded.exportTo(tarball);
+
+        assertTrue(Files.size(tarball) > 0, "Exported checkpoint should not be empty");
+    }
+
+    private static long count(JdbcDatabaseContainer<?> container, String table) throws Exception {
+        try (Connection conn = PooledDataSources.forContainer(container).getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void execute(JdbcDatabaseContainer<?> container, String sql) throws Exception {
+        try (Connection conn = PooledDataSources.forContainer(container).getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.filecopyandbind;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.containers.BindMode;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.reuse.ContainerReuse;
 
 import java.nio.file.Paths;
 import java.sql.Connection;
@@ -18,12 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * Integration test for MySQL initialization using file system binding (bind mounts).
  * Mounts schema.sql and data.sql from the host into the container initialization directory.
  */
-@Testcontainers
 public class MysqlWithFileBindTest {
 
     // MySQL container configured with file system binds for init scripts.
     // Uses MySQL 8.0, mounts schema and data files as read-only.
-    @Container
     private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
             .withDatabaseName("testdb")
             .withFileSystemBind(
@@ -35,6 +35,16 @@ public class MysqlWithFileBindTest {
                     "/docker-entrypoint-initdb.d/02-data.sql",
                     BindMode.READ_ONLY);
 
+    @BeforeAll
+    static void startContainer() {
+        ContainerReuse.start(mysql);
+    }
+
+    @AfterAll
+    static void stopContainer() {
+        ContainerReuse.stopUnlessReused(mysql);
+    }
+
     // Tests that the MySQL container initialized correctly from bound SQL files.
     // Validates schema creation, data loading, and specific MySQL features.
     @Test
@@ -1,13 +1,15 @@
 package com.example.filecopyandbind;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.MySQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.MountableFile;
 
+import com.example.datasource.PooledDataSources;
+import com.example.reuse.ContainerReuse;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -17,29 +19,35 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * Integration test for MySQL initialization using file copying from classpath.
  * Copies schema.sql and data.sql into the container initialization directory.
  */
-@Testcontainers
 public class MysqlWithFileCopyTest {
 
     // MySQL container configured with copied initialization scripts.
     // Uses MySQL 8.0, copies schema and data files from classpath resources.
-    @Container
     private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
             .withDatabaseName("testdb")
-            .withCopyFileToContainer(
+            .withCopyToContainer(
                     MountableFile.forClasspathResource("mysql/schema.sql"),
                     "/docker-entrypoint-initdb.d/01-schema.sql")
-            .withCopyFileToContainer(
+            .withCopyToContainer(
                     MountableFile.forClasspathResource("mysql/data.sql"),
                     "/docker-entrypoint-initdb.d/02-data.sql");
 
+    @BeforeAll
+    static void startContainer() {
+        ContainerReuse.start(mysql);
+    }
+
+    @AfterAll
+    static void stopContainer() {
+        PooledDataSources.close(mysql);
+        ContainerReuse.stopUnlessReused(mysql);
+    }
+
     // Tests that the MySQL container initialized correctly from copied SQL files.
     // Validates schema creation, data loading, and specific MySQL features.
     @Test
     public void testMysqlSchemaAndDataLoaded() throws Exception {
-        try (Connection conn = DriverManager.getConnection(
-                mysql.getJdbcUrl(),
-                mysql.getUsername(),
-                mysql.getPassword());
+        try (Connection conn = PooledDataSources.forContainer(mysql).getConnection();
              var stmt = conn.createStatement()) {
 
             // ===== SCHEMA VALIDATION =====
@@ -0,0 +1,123 @@
+package com.example.filecopyandbind;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.ext.ScriptUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Loads init scripts once into a PostgreSQL template database and clones it per test with
+ * CREATE DATABASE ... TEMPLATE. A clone is copied inside the server, so every test
+ * gets a freshly seeded database in milliseconds without restarting the container.
+ */
+public final class PostgresTemplateDatabase {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresTemplateDatabase.class);
+
+    private final PostgreSQLContainer<?> postgres;
+    private final String templateName;
+    private final AtomicInteger cloneCounter = new AtomicInteger();
+    private int serverMajorVersion;
+
+    private PostgresTemplateDatabase(PostgreSQLContainer<?> postgres, String templateName) {
+        this.postgres = postgres;
+        this.templateName = templateName;
+    }
+
+    // Creates (or recreates) the template database and runs the given classpath scripts into it.
+    public static PostgresTemplateDatabase create(PostgreSQLContainer<?> postgres, String templateName,
+                                                  String... classpathScripts) throws SQLException {
+        PostgresTemplateDatabase template = new PostgresTemplateDatabase(postgres, templateName);
+        template.load(classpathScripts);
+        return template;
+    }
+
+    // Clones the template into a new database and returns its name.
+    public String createDatabase() throws SQLException {
+        String name = templateName + "_clone_" + cloneCounter.incrementAndGet();
+        long startTime = System.nanoTime();
+        // Server default strategy: on PostgreSQL 15+ that is WAL_LOG, which suits small templates because
+        // FILE_COPY forces a checkpoint before and after every clone
+        executeOnMaintenanceDb("CREATE DATABASE " + name + " TEMPLATE " + templateName);
+        logger.debug("Cloned {} into {} in {} ms", templateName, name, (System.nanoTime() - startTime) / 1_000_000);
+        return name;
+    }
+
+    // Drops a database created by createDatabase(), terminating any connection left open by the test.
+    public void dropDatabase(String name) throws SQLException {
+        String force = serverMajorVersion >= 13 ? " WITH (FORCE)" : "";
+        executeOnMaintenanceDb("DROP DATABASE IF EXISTS " + name + force);
+    }
+
+    public String getJdbcUrl(String database) {
+        return "jdbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + database;
+    }
+
+    public Connection getConnection(String database) throws SQLException {
+        return DriverManager.getConnection(getJdbcUrl(database), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private void load(String... classpathScripts) throws SQLException {
+        long startTime = System.nanoTime();
+        try (Connection conn = maintenanceConnection(); Statement stmt = conn.createStatement()) {
+            serverMajorVersion = conn.getMetaData().getDatabaseMajorVersion();
+            // A leftover template from an earlier run must be unmarked before it can be dropped
+            stmt.execute("UPDATE pg_database SET datistemplate = false WHERE datname = '" + templateName + "'");
+            stmt.execute("DROP DATABASE IF EXISTS " + templateName);
+            stmt.execute("CREATE DATABASE " + templateName);
+        }
+
+        try (Connection conn = getConnection(templateName); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            for (String script : classpathScripts) {
+                for (String statement : splitScript(script)) {
+                    stmt.execute(statement);
+                }
+            }
+            conn.commit();
+        }
+
+        // Templates must have no open connections while being cloned, so forbid new ones
+        executeOnMaintenanceDb("ALTER DATABASE " + templateName + " WITH IS_TEMPLATE true ALLOW_CONNECTIONS false");
+        logger.info("Template database {} loaded in {} ms", templateName, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private void executeOnMaintenanceDb(String sql) throws SQLException {
+        try (Connection conn = maintenanceConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private Connection maintenanceConnection() throws SQLException {
+        return getConnection(postgres.getDatabaseName());
+    }
+
+    private static List<String> splitScript(String resource) {
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Script not found on classpath: " + resource);
+            }
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            List<String> statements = new ArrayList<>();
+            ScriptUtils.splitSqlScript(resource, script, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                    ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+                    ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER, statements);
+            return statements;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+}
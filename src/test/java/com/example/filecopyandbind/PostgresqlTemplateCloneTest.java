@@ -0,0 +1,85 @@
+package com.example.filecopyandbind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+ * Integration test for per-test isolation using PostgreSQL template databases.
+ * schema.sql and data.sql are loaded once; every test method works on its own clone.
+ */
+@Testcontainers
+public class PostgresqlTemplateCloneTest {
+
+    // Plain PostgreSQL container without init scripts; the template is loaded over JDBC.
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb");
+
+    private static PostgresTemplateDatabase template;
+
+    private String database;
+
+    @BeforeAll
+    static void loadTemplate() throws SQLException {
+        template = PostgresTemplateDatabase.create(postgres, "seed_template",
+                "postgres/schema.sql", "postgres/data.sql");
+    }
+
+    @BeforeEach
+    void cloneDatabase() throws SQLException {
+        database = template.createDatabase();
+    }
+
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        template.dropDatabase(database);
+    }
+
+    // Deletes all customers; the next test must still see the seeded rows.
+    @Test
+    public void deletingRowsDoesNotLeakIntoOtherTests() throws Exception {
+        try (Connection conn = template.getConnection(database);
+             var stmt = conn.createStatement()) {
+
+            assertEquals(2, countCustomers(stmt), "Clone should start with the seeded customers");
+            stmt.executeUpdate("DELETE FROM orders");
+            stmt.executeUpdate("DELETE FROM customers");
+            assertEquals(0, countCustomers(stmt), "Customers should be gone in this clone");
+        }
+    }
+
+    // Adds a customer; the next test must not see it.
+    @Test
+    public void insertingRowsDoesNotLeakIntoOtherTests() throws Exception {
+        try (Connection conn = template.getConnection(database);
+             var stmt = conn.createStatement()) {
+
+            assertEquals(2, countCustomers(stmt), "Clone should start with the seeded customers");
+            stmt.executeUpdate("INSERT INTO customers (name, email) VALUES ('Clone User', 'clone@example.com')");
+            assertEquals(3, countCustomers(stmt), "New customer should be visible in this clone");
+
+            ResultSet rs = stmt.executeQuery("SELECT data->>'system' FROM json_data LIMIT 1");
+            assertTrue(rs.next(), "Should have JSON data");
+            assertEquals("PostgreSQL", rs.getString(1), "Should have correct system value");
+        }
+    }
+
+    private static int countCustomers(Statement stmt) throws SQLException {
+        ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM customers");
+        assertTrue(rs.next(), "Customers count should return a row");
+        return rs.getInt(1);
+    }
+}
@@ -5,29 +5,29 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.datasource.PooledDataSources;
+import com.example.reuse.ContainerReuse;
 
 /*
  * Integration test for PostgreSQL initialization using file system binding (bind mounts).
  * Mounts schema.sql and data.sql from the host into the container initialization directory.
  */
-@Testcontainers
 public class PostgresqlWithFileBindTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PostgresqlWithFileBindTest.class);
 
     // PostgreSQL container configured with file system binds for init scripts.
     // Uses PostgreSQL 16, mounts schema and data files as read-only.
-    @Container
     private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
             .withDatabaseName("testdb")
             .withFileSystemBind(
@@ -39,14 +39,22 @@ public class PostgresqlWithFileBindTest {
                     "/docker-entrypoint-initdb.d/02-data.sql",
                     BindMode.READ_ONLY);
 
+    @BeforeAll
+    static void startContainer() {
+        ContainerReuse.start(postgres);
+    }
+
+    @AfterAll
+    static void stopContainer() {
+        PooledDataSources.close(postgres);
+        ContainerReuse.stopUnlessReused(postgres);
+    }
+
     // Tests that the PostgreSQL container initialized correctly from bound SQL files.
     // Validates schema creation, data loading, and specific PostgreSQL features (JSONB).
     @Test
     public void verifySchemaAndDataLoadedFromBindFiles() throws Exception {
-        try (Connection conn = DriverManager.getConnection(
-                postgres.getJdbcUrl(),
-                postgres.getUsername(),
-                postgres.getPassword());
+        try (Connection conn = PooledDataSources.forContainer(postgres).getConnection();
              var stmt = conn.createStatement()) {
 
             // Schema validation
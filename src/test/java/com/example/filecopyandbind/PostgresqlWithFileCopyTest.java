@@ -1,11 +1,13 @@
 package com.example.filecopyandbind;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.MountableFile;
 
+import com.example.reuse.ContainerReuse;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
@@ -17,21 +19,29 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * Integration test for PostgreSQL initialization using file copying from classpath.
  * Copies schema.sql and data.sql into the container initialization directory.
  */
-@Testcontainers
 public class PostgresqlWithFileCopyTest {
 
     // PostgreSQL container configured with copied initialization scripts.
     // Uses PostgreSQL 16, copies schema and data files from classpath resources.
-    @Container
     private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
             .withDatabaseName("testdb")
-            .withCopyFileToContainer(
+            .withCopyToContainer(
                     MountableFile.forClasspathResource("postgres/schema.sql"),
                     "/docker-entrypoint-initdb.d/01-schema.sql")
-            .withCopyFileToContainer(
+            .withCopyToContainer(
                     MountableFile.forClasspathResource("postgres/data.sql"),
                     "/docker-entrypoint-initdb.d/02-data.sql");
 
+    @BeforeAll
+    static void startContainer() {
+        ContainerReuse.start(postgres);
+    }
+
+    @AfterAll
+    static void stopContainer() {
+        ContainerReuse.stopUnlessReused(postgres);
+    }
+
     // Tests that the PostgreSQL container initialized correctly from copied SQL files.
     // Validates schema creation, data loading, and specific PostgreSQL features (JSONB).
     @Test
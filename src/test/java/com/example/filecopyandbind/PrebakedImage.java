@@ -0,0 +1,181 @@
+package com.example.filecopyandbind;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import com.example.waitstrategies.JdbcReadinessWaitStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/*
+ * Builds a local database image that already contains the result of the init scripts.
+ *
+ * The first run starts the base image with the scripts in /docker-entrypoint-initdb.d, stops it cleanly
+ * and commits it as prebaked/<base>:<hash>. The hash covers the base image, the container settings
+ * (database, credentials, env, command), the data directory relocation below and the script contents,
+ * so editing a script under src/test/resources produces a new tag and a rebuild. Later runs start
+ * straight from the committed image and skip the entrypoint initialisation.
+ *
+ * Both official images declare their data directory as a VOLUME, which docker commit does not capture,
+ * so the data directory is moved to a path outside the volume while baking.
+ *
+ * The official Postgres entrypoint logs "ready to accept connections" twice on a fresh data directory,
+ * once for its temporary init server, and PostgreSQLContainer waits for both. A prebaked data directory
+ * skips initdb and logs it once, so prebaked Postgres containers wait for a SQL answer instead.
+ */
+public final class PrebakedImage<C extends JdbcDatabaseContainer<?>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrebakedImage.class);
+
+    // Bump when the baking procedure changes so that old images are not reused
+    private static final String BAKE_VERSION = "1";
+    private static final String MYSQL_DATADIR_CNF = "[mysqld]\ndatadir=/var/lib/mysql-prebaked\n";
+    private static final String MYSQL_DATADIR_CNF_PATH = "/etc/mysql/conf.d/zz-prebaked.cnf";
+    private static final String POSTGRES_PGDATA = "/var/lib/postgresql/prebaked";
+
+    private final DockerImageName baseImage;
+    private final Function<DockerImageName, C> containerFactory;
+    private final List<String> initScripts = new ArrayList<>();
+
+    private PrebakedImage(DockerImageName baseImage, Function<DockerImageName, C> containerFactory) {
+        this.baseImage = baseImage;
+        this.containerFactory = containerFactory;
+    }
+
+    // containerFactory configures the database container the same way for baking and for running tests.
+    public static <C extends JdbcDatabaseContainer<?>> PrebakedImage<C> of(String baseImage,
+                                                                        Function<DockerImageName, C> containerFactory) {
+        return new PrebakedImage<>(DockerImageName.parse(baseImage), containerFactory);
+    }
+
+    // Adds a classpath script; scripts run in the order they are added.
+    public PrebakedImage<C> withInitScript(String classpathResource) {
+        initScripts.add(classpathResource);
+        return this;
+    }
+
+    // Returns a new, not yet started container running on the prebaked image.
+    public C newContainer() {
+        C container = containerFactory.apply(resolve());
+        if (container instanceof PostgreSQLContainer) {
+            container.waitingFor(JdbcReadinessWaitStrategy.forSelectOne());
+        }
+        return container;
+    }
+
+    // Returns the prebaked image name, building the image first if it does not exist locally.
+    public synchronized DockerImageName resolve() {
+        C probe = containerFactory.apply(baseImage);
+        String repository = "prebaked/" + baseImage.getRepository().replace('/', '-');
+        DockerImageName image = DockerImageName.parse(repository)
+                .withTag(hash(probe))
+                .asCompatibleSubstituteFor(baseImage.getUnversionedPart());
+
+        DockerClient client = DockerClientFactory.lazyClient();
+        try {
+            client.inspectImageCmd(image.asCanonicalNameString()).exec();
+            logger.info("Using prebaked image {}", image.asCanonicalNameString());
+        } catch (NotFoundException e) {
+            bake(client, image);
+        }
+        return image;
+    }
+
+    private void bake(DockerClient client, DockerImageName image) {
+        long startTime = System.currentTimeMillis();
+        logger.info("Baking {} from {} with {}", image.asCanonicalNameString(), baseImage, initScripts);
+
+        try (C container = relocateDataDirectory(containerFactory.apply(baseImage))) {
+            for (int i = 0; i < initScripts.size(); i++) {
+                String script = initScripts.get(i);
+                String fileName = Paths.get(script).getFileName().toString();
+                container.withCopyFileToContainer(MountableFile.forClasspathResource(script),
+                        String.format("/docker-entrypoint-initdb.d/%02d-%s", i + 1, fileName));
+            }
+            container.start();
+
+            // Stop the server cleanly so the committed data directory needs no crash recovery
+            client.stopContainerCmd(container.getContainerId()).withTimeout(60).exec();
+            client.commitCmd(container.getContainerId())
+                    .withRepository(image.getRepository())
+                    .withTag(image.getVersionPart())
+                    .withLabels(Map.of("com.example.prebaked.base", baseImage.asCanonicalNameString()))
+                    .exec();
+        }
+        logger.info("Baked {} in {} ms", image.asCanonicalNameString(), System.currentTimeMillis() - startTime);
+    }
+
+    private C relocateDataDirectory(C container) {
+        if (container instanceof MySQLContainer) {
+            container.withCopyToContainer(Transferable.of(MYSQL_DATADIR_CNF), MYSQL_DATADIR_CNF_PATH);
+        } else if (container instanceof PostgreSQLContainer) {
+            // The committed image keeps the container env, so PGDATA also applies when running it
+            container.withEnv("PGDATA", POSTGRES_PGDATA);
+        } else {
+            throw new IllegalArgumentException("Prebaking is not supported for " + container.getClass().getSimpleName());
+        }
+        return container;
+    }
+
+    private String hash(C probe) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, BAKE_VERSION);
+            update(digest, baseImage.asCanonicalNameString());
+            update(digest, probe.getClass().getName());
+            update(digest, probe.getDatabaseName());
+            update(digest, probe.getUsername());
+            update(digest, probe.getPassword());
+            update(digest, new TreeMap<>(probe.getEnvMap()).toString());
+            update(digest, Arrays.toString(probe.getCommandParts()));
+            update(digest, probe instanceof MySQLContainer
+                    ? MYSQL_DATADIR_CNF_PATH + "=" + MYSQL_DATADIR_CNF
+                    : "PGDATA=" + POSTGRES_PGDATA);
+            for (String script : initScripts) {
+                update(digest, script);
+                digest.update(readResource(script));
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static byte[] readResource(String resource) {
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Script not found on classpath: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.filecopyandbind;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Integration test for databases started from prebaked images.
+ * The first run commits an image with schema.sql and data.sql already applied; later runs reuse it.
+ */
+@Testcontainers
+public class PrebakedImageTest {
+
+    // MySQL 8.0 with the init scripts baked into a local image tagged by their content hash.
+    @Container
+    private static final MySQLContainer<?> mysql = PrebakedImage
+            .of("mysql:8.0", image -> new MySQLContainer<>(image).withDatabaseName("testdb"))
+            .withInitScript("mysql/schema.sql")
+            .withInitScript("mysql/data.sql")
+            .newContainer();
+
+    private static final PrebakedImage<PostgreSQLContainer<?>> postgresImage = PrebakedImage
+            .<PostgreSQLContainer<?>>of("postgres:16-alpine",
+                    image -> new PostgreSQLContainer<>(image).withDatabaseName("testdb"))
+            .withInitScript("postgres/schema.sql")
+            .withInitScript("postgres/data.sql");
+
+    // PostgreSQL 16 with the init scripts baked into a local image tagged by their content hash.
+    @Container
+    private static final PostgreSQLContainer<?> postgres = postgresImage.newContainer();
+
+    // Tests that the prebaked MySQL image already contains the seeded schema and data.
+    @Test
+    public void testMysqlPrebakedSchemaAndData() throws Exception {
+        try (Connection conn = DriverManager.getConnection(
+                mysql.getJdbcUrl(),
+                mysql.getUsername(),
+                mysql.getPassword());
+             var stmt = conn.createStatement()) {
+
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM customers");
+            assertTrue(rs.next(), "Customers table should have rows");
+            assertEquals(2, rs.getInt(1), "Should have 2 customer records");
+        }
+    }
+
+    // Tests that a prebaked PostgreSQL container is ready sooner than the base image running the same init scripts.
+    @Test
+    public void testPostgresqlPrebakedStartsFaster() {
+        long baseMillis;
+        try (PostgreSQLContainer<?> base = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("testdb")
+                .withCopyFileToContainer(MountableFile.forClasspathResource("postgres/schema.sql"),
+                        "/docker-entrypoint-initdb.d/01-schema.sql")
+                .withCopyFileToContainer(MountableFile.forClasspathResource("postgres/data.sql"),
+                        "/docker-entrypoint-initdb.d/02-data.sql")) {
+            baseMillis = timeStart(base);
+        }
+
+        long prebakedMillis;
+        try (PostgreSQLContainer<?> prebaked = postgresImage.newContainer()) {
+            prebakedMillis = timeStart(prebaked);
+        }
+
+        assertTrue(prebakedMillis < baseMillis,
+                "Prebaked start took " + prebakedMillis + " ms, base image start " + baseMillis + " ms");
+    }
+
+    // Tests that the prebaked PostgreSQL image already contains the seeded schema and data.
+    @Test
+    public void testPostgresqlPrebakedSchemaAndData() throws Exception {
+        try (Connection conn = DriverManager.getConnection(
+                postgres.getJdbcUrl(),
+                postgres.getUsername(),
+                postgres.getPassword());
+             var stmt = conn.createStatement()) {
+
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM customers");
+            assertTrue(rs.next(), "Customers table should have rows");
+            assertEquals(2, rs.getInt(1), "Should have 2 customer records");
+
+            rs = stmt.executeQuery("SELECT data->>'system' FROM json_data LIMIT 1");
+            assertTrue(rs.next(), "Should have JSON data");
+            assertEquals("PostgreSQL", rs.getString(1), "Should have correct system value");
+        }
+    }
+
+    private static long timeStart(PostgreSQLContainer<?> container) {
+        long startTime = System.nanoTime();
+        container.start();
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+}
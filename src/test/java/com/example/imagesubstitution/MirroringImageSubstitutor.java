@@ -0,0 +1,318 @@
+package com.example.imagesubstitution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.ImageNameSubstitutor;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Image substitutor with a precomputed mapping table, memoized results and failover across registry mirrors.
+ *
+ * CustomImageSubstitutor parses and rewrites the name on every lookup. This substitutor resolves each distinct
+ * image once per JVM and answers every later lookup from a map:
+ * - Testcontainers' own images (testcontainers/ryuk, testcontainers/sshd, ...) always come from Docker Hub,
+ *   undoing any prefix, as CustomImageSubstitutor does for Ryuk.
+ * - Explicit mappings (e.g., postgres:15 -> registry.internal/db/postgres:15.6) are loaded once into an
+ *   immutable map, either inline or from a file.
+ * - Docker Hub images are then tried on each mirror prefix in order. The mirror is asked for the manifest
+ *   with a registry v2 HEAD request, and the first mirror that has it wins. A mirror that is down is skipped
+ *   for the rest of the session, so one dead mirror costs a single probe timeout.
+ * - Images no mirror has keep their original name and are pulled from Docker Hub.
+ *
+ * Configuration (testcontainers.properties, ~/.testcontainers.properties, or the TESTCONTAINERS_* env vars):
+ * - image.substitutor=com.example.imagesubstitution.MirroringImageSubstitutor
+ * - image.substitutor.mirrors=mirror-a.internal:5000/dockerhub/,mirror-b.internal/dockerhub/
+ * - image.substitutor.mappings=postgres:15=registry.internal/db/postgres:15.6,redis:7-alpine=...
+ * - image.substitutor.mappings.file=image-mappings.txt (classpath resource or path, one "source = target" per line)
+ * - image.substitutor.probe.timeout.ms=2000
+ *
+ * Leave hub.image.name.prefix unset when using mirrors: the default prefixing runs first and would pin every
+ * image to one registry.
+ */
+public class MirroringImageSubstitutor extends ImageNameSubstitutor {
+
+    private static final Logger log = LoggerFactory.getLogger(MirroringImageSubstitutor.class);
+
+    static final String MIRRORS_PROPERTY = "image.substitutor.mirrors";
+    static final String MAPPINGS_PROPERTY = "image.substitutor.mappings";
+    static final String MAPPINGS_FILE_PROPERTY = "image.substitutor.mappings.file";
+    static final String PROBE_TIMEOUT_PROPERTY = "image.substitutor.probe.timeout.ms";
+
+    private static final String TESTCONTAINERS_NAMESPACE = "testcontainers/";
+
+    private final Map<String, DockerImageName> mappings;
+    private final List<String> mirrors;
+    private final MirrorProbe probe;
+    private final Map<String, DockerImageName> resolved = new ConcurrentHashMap<>();
+    private final Set<String> unreachableMirrors = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Used by Testcontainers, which instantiates the class named in image.substitutor.
+     */
+    public MirroringImageSubstitutor() {
+        this(loadMappings(), splitList(property(MIRRORS_PROPERTY, "")),
+                new RegistryManifestProbe(Integer.parseInt(property(PROBE_TIMEOUT_PROPERTY, "2000"))));
+    }
+
+    MirroringImageSubstitutor(Map<String, String> mappings, List<String> mirrors, MirrorProbe probe) {
+        Map<String, DockerImageName> table = new LinkedHashMap<>();
+        mappings.forEach((source, target) ->
+                table.put(DockerImageName.parse(source).asCanonicalNameString(), DockerImageName.parse(target)));
+        this.mappings = Map.copyOf(table);
+        this.mirrors = mirrors.stream().map(m -> m.endsWith("/") ? m : m + "/").toList();
+        this.probe = probe;
+    }
+
+    @Override
+    public DockerImageName apply(DockerImageName original) {
+        return resolved.computeIfAbsent(original.asCanonicalNameString(), name -> {
+            DockerImageName result = resolve(original);
+            if (!result.equals(original)) {
+                log.info("Image substitution: {} → {}", original, result);
+            }
+            return result;
+        });
+    }
+
+    // Start of a whole "testcontainers/" path segment, so ghcr.io/acme/mytestcontainers/app does not match
+    private static int namespaceStart(String unversionedPart) {
+        if (unversionedPart.startsWith(TESTCONTAINERS_NAMESPACE)) {
+            return 0;
+        }
+        int segment = unversionedPart.indexOf("/" + TESTCONTAINERS_NAMESPACE);
+        return segment < 0 ? -1 : segment + 1;
+    }
+
+    private DockerImageName resolve(DockerImageName original) {
+        String unversionedPart = original.getUnversionedPart();
+        int namespace = namespaceStart(unversionedPart);
+        if (namespace >= 0) {
+            return DockerImageName.parse(unversionedPart.substring(namespace)).withTag(original.getVersionPart());
+        }
+
+        DockerImageName image = mappings.getOrDefault(original.asCanonicalNameString(), original);
+        if (!isDockerHub(image)) {
+            return compatible(image, original);
+        }
+        for (String mirror : mirrors) {
+            if (unreachableMirrors.contains(mirror)) {
+                continue;
+            }
+            DockerImageName candidate = onMirror(mirror, image);
+            Availability availability = probe.check(candidate);
+            log.debug("Mirror {} for {}: {}", mirror, image, availability);
+            if (availability == Availability.AVAILABLE) {
+                return compatible(candidate, original);
+            }
+            if (availability == Availability.UNREACHABLE) {
+                log.warn("Image mirror {} is unreachable, skipping it for the rest of the session", mirror);
+                unreachableMirrors.add(mirror);
+            }
+        }
+        return compatible(image, original);
+    }
+
+    private static DockerImageName onMirror(String mirror, DockerImageName image) {
+        String version = image.getVersionPart();
+        // Digests are referenced with @, tags with :
+        String separator = version.startsWith("sha256:") ? "@" : ":";
+        return DockerImageName.parse(mirror + image.getRepository() + separator + version);
+    }
+
+    private static DockerImageName compatible(DockerImageName image, DockerImageName original) {
+        return image.equals(original) ? original : image.asCompatibleSubstituteFor(original);
+    }
+
+    private static boolean isDockerHub(DockerImageName image) {
+        String registry = image.getRegistry();
+        return registry.isEmpty() || registry.equals("docker.io") || registry.equals("registry.hub.docker.com");
+    }
+
+    @Override
+    protected String getDescription() {
+        return "MirroringImageSubstitutor (" + mappings.size() + " mappings, mirrors " + mirrors + ")";
+    }
+
+    private static Map<String, String> loadMappings() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        String file = property(MAPPINGS_FILE_PROPERTY, "");
+        if (!file.isBlank()) {
+            mappings.putAll(readMappings(file.strip()));
+        }
+        // Inline entries override the file
+        mappings.putAll(parseMappings(splitList(property(MAPPINGS_PROPERTY, ""))));
+        return mappings;
+    }
+
+    private static Map<String, String> readMappings(String location) {
+        Path path = Paths.get(location);
+        try (InputStream in = Files.exists(path) ? Files.newInputStream(path)
+                : Thread.currentThread().getContextClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IllegalStateException("Image mapping file not found: " + location);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return parseMappings(reader.lines().toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read image mappings from " + location, e);
+        }
+    }
+
+    /**
+     * Parses "source = target" entries; blank lines and lines starting with # are ignored.
+     */
+    static Map<String, String> parseMappings(List<String> lines) {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        for (String line : lines) {
+            String entry = line.strip();
+            if (entry.isEmpty() || entry.startsWith("#")) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalArgumentException("Invalid image mapping, expected 'source = target': " + entry);
+            }
+            mappings.put(entry.substring(0, separator).strip(), entry.substring(separator + 1).strip());
+        }
+        return mappings;
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.strip());
+            }
+        }
+        return items;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return TestcontainersConfiguration.getInstance().getEnvVarOrProperty(name, defaultValue);
+    }
+
+    enum Availability {
+        AVAILABLE, MISSING, UNREACHABLE
+    }
+
+    /**
+     * Checks whether a registry can serve the given image.
+     */
+    @FunctionalInterface
+    interface MirrorProbe {
+        Availability check(DockerImageName image);
+    }
+
+    /**
+     * HEAD /v2/{repository}/manifests/{reference}, with an anonymous bearer token when the registry asks for one.
+     * A registry that still refuses the request is treated as having the image: the pull may have credentials
+     * this probe does not.
+     */
+    static class RegistryManifestProbe implements MirrorProbe {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+        private static final Pattern CHALLENGE_PARAMETER = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+        private static final String MANIFEST_TYPES = String.join(",",
+                "application/vnd.docker.distribution.manifest.list.v2+json",
+                "application/vnd.docker.distribution.manifest.v2+json",
+                "application/vnd.oci.image.index.v1+json",
+                "application/vnd.oci.image.manifest.v1+json");
+
+        private final int timeoutMillis;
+
+        RegistryManifestProbe(int timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public Availability check(DockerImageName image) {
+            String registry = image.getRegistry();
+            String scheme = registry.startsWith("localhost") || registry.startsWith("127.0.0.1") ? "http" : "https";
+            String version = image.getVersionPart();
+            String url = scheme + "://" + registry + "/v2/" + image.getRepository() + "/manifests/" + version;
+            try {
+                HttpURLConnection connection = head(url, null);
+                int status = connection.getResponseCode();
+                if (status == 401) {
+                    String token = anonymousToken(connection.getHeaderField("WWW-Authenticate"));
+                    if (token != null) {
+                        status = head(url, "Bearer " + token).getResponseCode();
+                    }
+                }
+                if (status == 200 || status == 401 || status == 403) {
+                    return Availability.AVAILABLE;
+                }
+                return status == 404 ? Availability.MISSING : Availability.UNREACHABLE;
+            } catch (IOException e) {
+                return Availability.UNREACHABLE;
+            }
+        }
+
+        private HttpURLConnection head(String url, String authorization) throws IOException {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            connection.setRequestProperty("Accept", MANIFEST_TYPES);
+            if (authorization != null) {
+                connection.setRequestProperty("Authorization", authorization);
+            }
+            return connection;
+        }
+
+        // Bearer realm="https://ghcr.io/token",service="ghcr.io",scope="repository:org/image:pull"
+        private String anonymousToken(String challenge) throws IOException {
+            if (challenge == null || !challenge.startsWith("Bearer ")) {
+                return null;
+            }
+            Map<String, String> parameters = new LinkedHashMap<>();
+            Matcher matcher = CHALLENGE_PARAMETER.matcher(challenge);
+            while (matcher.find()) {
+                parameters.put(matcher.group(1), matcher.group(2));
+            }
+            String realm = parameters.remove("realm");
+            if (realm == null) {
+                return null;
+            }
+            StringBuilder url = new StringBuilder(realm);
+            char separator = realm.contains("?") ? '&' : '?';
+            for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+                url.append(separator).append(parameter.getKey()).append('=')
+                        .append(URLEncoder.encode(parameter.getValue(), StandardCharsets.UTF_8));
+                separator = '&';
+            }
+            HttpURLConnection connection = (HttpURLConnection) new URL(url.toString()).openConnection();
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            if (connection.getResponseCode() != 200) {
+                return null;
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return MAPPER.readTree(in).path("token").asText(null);
+            }
+        }
+    }
+}
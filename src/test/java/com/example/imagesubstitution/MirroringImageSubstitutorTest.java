@@ -0,0 +1,113 @@
+package com.example.imagesubstitution;
+
+import com.example.imagesubstitution.MirroringImageSubstitutor.Availability;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Uses a fake mirror probe, so no registry or Docker is needed.
+ */
+public class MirroringImageSubstitutorTest {
+
+    private static final String MIRROR_A = "mirror-a.internal:5000/dockerhub/";
+    private static final String MIRROR_B = "mirror-b.internal/dockerhub/";
+
+    private final List<String> probes = new CopyOnWriteArrayList<>();
+
+    @Test
+    void resolvesEachImageOnlyOnce() {
+        MirroringImageSubstitutor substitutor = substitutor(Map.of(), image -> Availability.AVAILABLE);
+
+        DockerImageName first = substitutor.apply(DockerImageName.parse("postgres:15"));
+        DockerImageName second = substitutor.apply(DockerImageName.parse("postgres:15"));
+
+        assertEquals(MIRROR_A + "postgres:15", first.asCanonicalNameString());
+        assertEquals(first, second);
+        assertEquals(1, probes.size());
+        assertTrue(first.isCompatibleWith(DockerImageName.parse("postgres")));
+    }
+
+    @Test
+    void failsOverToNextMirrorAndSkipsUnreachableOneAfterwards() {
+        MirroringImageSubstitutor substitutor = substitutor(Map.of(),
+                image -> image.getRegistry().startsWith("mirror-a") ? Availability.UNREACHABLE : Availability.AVAILABLE);
+
+        assertEquals(MIRROR_B + "postgres:15", substitutor.apply(DockerImageName.parse("postgres:15")).asCanonicalNameString());
+        assertEquals(MIRROR_B + "redis:7-alpine", substitutor.apply(DockerImageName.parse("redis:7-alpine")).asCanonicalNameString());
+
+        assertEquals(List.of(MIRROR_A + "postgres:15", MIRROR_B + "postgres:15", MIRROR_B + "redis:7-alpine"), probes);
+    }
+
+    @Test
+    void keepsOriginalNameWhenNoMirrorHasTheImage() {
+        MirroringImageSubstitutor substitutor = substitutor(Map.of(), image -> Availability.MISSING);
+
+        assertEquals("mysql:8.0", substitutor.apply(DockerImageName.parse("mysql:8.0")).asCanonicalNameString());
+        assertEquals(2, probes.size());
+    }
+
+    @Test
+    void appliesMappingTableBeforeMirrors() {
+        MirroringImageSubstitutor substitutor = substitutor(Map.of(
+                "postgres:15", "registry.internal/db/postgres:15.6",
+                "redis:7-alpine", "redis:7.2-alpine"), image -> Availability.AVAILABLE);
+
+        assertEquals("registry.internal/db/postgres:15.6",
+                substitutor.apply(DockerImageName.parse("postgres:15")).asCanonicalNameString());
+        assertEquals(MIRROR_A + "redis:7.2-alpine",
+                substitutor.apply(DockerImageName.parse("redis:7-alpine")).asCanonicalNameString());
+        assertEquals(List.of(MIRROR_A + "redis:7.2-alpine"), probes);
+    }
+
+    @Test
+    void keepsTestcontainersImagesOnDockerHub() {
+        MirroringImageSubstitutor substitutor = substitutor(Map.of(), image -> Availability.AVAILABLE);
+
+        assertEquals("testcontainers/ryuk:0.6.0",
+                substitutor.apply(DockerImageName.parse("testcontainers/ryuk:0.6.0")).asCanonicalNameString());
+        assertEquals("testcontainers/ryuk:0.6.0", substitutor.apply(
+                DockerImageName.parse("ghcr.io/j2eeexpert2015/approved-images/testcontainers/ryuk:0.6.0")).asCanonicalNameString());
+        assertTrue(probes.isEmpty());
+    }
+
+    @Test
+    void mirrorsRepositoriesThatOnlyContainTheTestcontainersName() {
+        MirroringImageSubstitutor substitutor = substitutor(Map.of(), image -> Availability.AVAILABLE);
+
+        assertEquals("ghcr.io/acme/mytestcontainers/app:1.0",
+                substitutor.apply(DockerImageName.parse("ghcr.io/acme/mytestcontainers/app:1.0")).asCanonicalNameString());
+        assertEquals(MIRROR_A + "acme/mytestcontainers:1.0",
+                substitutor.apply(DockerImageName.parse("acme/mytestcontainers:1.0")).asCanonicalNameString());
+        assertEquals(List.of(MIRROR_A + "acme/mytestcontainers:1.0"), probes);
+    }
+
+    @Test
+    void parsesMappingLines() {
+        Map<String, String> mappings = MirroringImageSubstitutor.parseMappings(List.of(
+                "# comment",
+                "",
+                "postgres:15 = registry.internal/db/postgres:15.6",
+                "mysql:8.0=registry.internal/db/mysql:8.0.36"));
+
+        assertEquals(Map.of("postgres:15", "registry.internal/db/postgres:15.6",
+                "mysql:8.0", "registry.internal/db/mysql:8.0.36"), mappings);
+        assertThrows(IllegalArgumentException.class,
+                () -> MirroringImageSubstitutor.parseMappings(List.of("postgres:15")));
+    }
+
+    private MirroringImageSubstitutor substitutor(Map<String, String> mappings,
+                                                  MirroringImageSubstitutor.MirrorProbe probe) {
+        return new MirroringImageSubstitutor(mappings, List.of(MIRROR_A, MIRROR_B), image -> {
+            probes.add(image.asCanonicalNameString());
+            return probe.check(image);
+        });
+    }
+}
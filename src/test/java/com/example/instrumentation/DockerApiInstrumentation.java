@@ -0,0 +1,96 @@
+package com.example.instrumentation;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.dockerclient.DockerClientProviderStrategy;
+import org.testcontainers.shaded.com.github.dockerjava.core.DockerClientConfig;
+import org.testcontainers.shaded.com.github.dockerjava.core.DockerClientImpl;
+
+import com.github.dockerjava.api.DockerClient;
+
+/**
+ * Routes the Docker client shared by all containers through an {@link InstrumentedDockerHttpClient}.
+ *
+ * Testcontainers has no extension point for the client it hands to GenericContainer, so {@link #install()} builds a
+ * second client from the same transport configuration (same session headers and registry auth), wraps its HTTP
+ * transport and puts it into DockerClientFactory in place of the original. Both steps use reflection on
+ * Testcontainers internals; if they change, installation logs a warning and the suite runs uninstrumented.
+ *
+ * Calls made while Testcontainers initializes its client (environment checks, Ryuk) happen before installation and
+ * are not recorded.
+ */
+public final class DockerApiInstrumentation {
+
+    private static final Logger logger = LoggerFactory.getLogger(DockerApiInstrumentation.class);
+
+    private static final DockerApiRecorder RECORDER = new DockerApiRecorder();
+    private static volatile boolean installed;
+
+    private DockerApiInstrumentation() {
+    }
+
+    public static DockerApiRecorder recorder() {
+        return RECORDER;
+    }
+
+    public static boolean isInstalled() {
+        return installed;
+    }
+
+    /**
+     * Installs the instrumented client once; returns false when Docker is unavailable or installation failed.
+     */
+    public static synchronized boolean install() {
+        if (installed) {
+            return true;
+        }
+        DockerClientFactory factory = DockerClientFactory.instance();
+        if (!factory.isDockerAvailable()) {
+            return false;
+        }
+        try {
+            DockerClientImpl base = (DockerClientImpl) DockerClientProviderStrategy.getClientForConfig(factory.getTransportConfig());
+            DockerClient instrumented = DockerClientImpl.getInstance((DockerClientConfig) read(base, "dockerClientConfig"),
+                    new InstrumentedDockerHttpClient(base.getHttpClient(), RECORDER));
+            write(factory, "client", unclosable(instrumented));
+            installed = true;
+            logger.info("Docker API calls are being recorded");
+            return true;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            logger.warn("Could not install Docker API instrumentation, running without it", e);
+            return false;
+        }
+    }
+
+    // Like Testcontainers' own wrapper, the shared client must survive callers that close it
+    private static DockerClient unclosable(DockerClient client) {
+        return (DockerClient) Proxy.newProxyInstance(DockerClient.class.getClassLoader(), new Class<?>[] {DockerClient.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        throw new IllegalStateException("You should never close the global DockerClient!");
+                    }
+                    try {
+                        return method.invoke(client, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static Object read(Object target, String fieldName) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private static void write(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
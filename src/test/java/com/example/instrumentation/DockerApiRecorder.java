@@ -0,0 +1,168 @@
+package com.example.instrumentation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects Docker API call timings by operation, by test class and by container, and keeps the slowest calls.
+ *
+ * Calls are attributed to the test class running on the calling thread. JUnit reports a class as started and
+ * finished on the worker thread that runs it, so concurrently running classes are kept apart; threads the class
+ * starts itself, such as those of {@code Startables.deepStart}, inherit it. Calls from threads created outside any
+ * class, like Testcontainers' shared log and cleanup threads, are charged to {@value #OUTSIDE_TESTS}.
+ */
+public final class DockerApiRecorder {
+
+    static final String OUTSIDE_TESTS = "(outside test classes)";
+    private static final int SLOWEST_CALLS = 15;
+
+    // Innermost class last, so a @Nested class hands the thread back to its enclosing class when it finishes
+    private final InheritableThreadLocal<Deque<String>> runningTestClasses = new InheritableThreadLocal<>() {
+        @Override
+        protected Deque<String> initialValue() {
+            return new ArrayDeque<>();
+        }
+
+        @Override
+        protected Deque<String> childValue(Deque<String> parentValue) {
+            return new ArrayDeque<>(parentValue);
+        }
+    };
+
+    private final Map<String, Stats> byOperation = new ConcurrentHashMap<>();
+    private final Map<String, Stats> byTestClass = new ConcurrentHashMap<>();
+    private final Map<String, Stats> byContainer = new ConcurrentHashMap<>();
+    private final PriorityQueue<Call> slowest = new PriorityQueue<>(Comparator.comparingLong(Call::nanos));
+
+    void testClassStarted(String className) {
+        runningTestClasses.get().addLast(className);
+    }
+
+    void testClassFinished(String className) {
+        Deque<String> running = runningTestClasses.get();
+        running.removeLastOccurrence(className);
+        if (running.isEmpty()) {
+            runningTestClasses.remove();
+        }
+    }
+
+    /**
+     * Records one finished call.
+     * @param operation Operation name, e.g. "start" or "exec-start"
+     * @param containerId Short container id, or null when the call is not about a container
+     * @param detail Image name or path shown for the slowest calls
+     * @param nanos Time from sending the request until the response body was closed
+     */
+    public void record(String operation, String containerId, String detail, long nanos, boolean failed) {
+        String testClass = currentTestClass();
+        stats(byOperation, operation).add(nanos, failed);
+        stats(byTestClass, testClass).add(nanos, failed);
+        if (containerId != null) {
+            stats(byContainer, containerId).add(nanos, failed);
+        }
+        synchronized (slowest) {
+            slowest.add(new Call(operation, containerId, detail, testClass, nanos));
+            if (slowest.size() > SLOWEST_CALLS) {
+                slowest.poll();
+            }
+        }
+    }
+
+    private String currentTestClass() {
+        String testClass = runningTestClasses.get().peekLast();
+        return testClass == null ? OUTSIDE_TESTS : testClass;
+    }
+
+    public long totalCalls() {
+        return byOperation.values().stream().mapToLong(stats -> stats.count.sum()).sum();
+    }
+
+    public long totalNanos() {
+        return byOperation.values().stream().mapToLong(stats -> stats.nanos.sum()).sum();
+    }
+
+    /**
+     * Snapshot of the calls recorded so far for one operation, test class or container.
+     */
+    public Summary operation(String operation) {
+        Stats stats = byOperation.get(operation);
+        return stats == null ? new Summary(operation, 0, 0, 0, 0) : stats.summary(operation);
+    }
+
+    /**
+     * Human-readable report; times are the sum of call durations, so concurrent calls add up to more than the
+     * wall time of the suite.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Docker API: %d calls, %d ms in total%n", totalCalls(),
+                TimeUnit.NANOSECONDS.toMillis(totalNanos())));
+        section(report, "By operation", byOperation);
+        section(report, "By test class", byTestClass);
+        section(report, "By container", byContainer);
+
+        List<Call> calls;
+        synchronized (slowest) {
+            calls = new ArrayList<>(slowest);
+        }
+        calls.sort(Comparator.comparingLong(Call::nanos).reversed());
+        report.append(String.format("Slowest calls:%n"));
+        for (Call call : calls) {
+            report.append(String.format("  %8d ms  %-14s %-14s %s  [%s]%n", TimeUnit.NANOSECONDS.toMillis(call.nanos()),
+                    call.operation(), call.containerId() == null ? "-" : call.containerId(), call.detail(),
+                    call.testClass()));
+        }
+        return report.toString();
+    }
+
+    private static void section(StringBuilder report, String title, Map<String, Stats> stats) {
+        report.append(String.format("%s:%n", title));
+        stats.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(Comparator.comparingLong(Summary::totalMillis).reversed())
+                .forEach(summary -> report.append(String.format("  %-60s %6d calls %8d ms total %7d ms max%s%n",
+                        summary.name(), summary.calls(), summary.totalMillis(), summary.maxMillis(),
+                        summary.failures() > 0 ? "  " + summary.failures() + " failed" : "")));
+    }
+
+    private static Stats stats(Map<String, Stats> map, String key) {
+        return map.computeIfAbsent(key, k -> new Stats());
+    }
+
+    public record Summary(String name, long calls, long totalMillis, long maxMillis, long failures) {
+    }
+
+    private record Call(String operation, String containerId, String detail, String testClass, long nanos) {
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void add(long callNanos, boolean failed) {
+            count.increment();
+            nanos.add(callNanos);
+            max.accumulate(callNanos);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        private Summary summary(String name) {
+            return new Summary(name, count.sum(), TimeUnit.NANOSECONDS.toMillis(nanos.sum()),
+                    TimeUnit.NANOSECONDS.toMillis(max.get()), failures.sum());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.instrumentation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records Docker API calls per test class and prints a report when the test plan finishes.
+ *
+ * Registered in META-INF/services and off by default; enable it with {@code -Ddocker.instrumentation=true}.
+ * The report is logged and written to {@code docker.instrumentation.report}
+ * (default {@code target/docker-api-report.txt}). It answers whether a slow suite spends its Docker time on
+ * pulls, container starts, copying init scripts, or readiness polling (inspect and exec calls).
+ */
+public class DockerApiReportListener implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DockerApiReportListener.class);
+
+    private boolean active;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (Boolean.getBoolean("docker.instrumentation")) {
+            active = DockerApiInstrumentation.install();
+            if (!active) {
+                logger.info("Docker API instrumentation requested but not installed");
+            }
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (active) {
+            testClassName(testIdentifier).ifPresent(DockerApiInstrumentation.recorder()::testClassStarted);
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (active) {
+            testClassName(testIdentifier).ifPresent(DockerApiInstrumentation.recorder()::testClassFinished);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!active) {
+            return;
+        }
+        String report = DockerApiInstrumentation.recorder().report();
+        logger.info("\n{}", report);
+        Path output = Paths.get(System.getProperty("docker.instrumentation.report", "target/docker-api-report.txt"));
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            Files.writeString(output, report, StandardCharsets.UTF_8);
+            logger.info("Docker API report written to {}", output.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write Docker API report to {}", output, e);
+        }
+    }
+
+    private static Optional<String> testClassName(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                .filter(ClassSource.class::isInstance)
+                .map(source -> ((ClassSource) source).getClassName());
+    }
+}
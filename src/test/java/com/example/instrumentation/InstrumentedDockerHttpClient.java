@@ -0,0 +1,184 @@
+package com.example.instrumentation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+/**
+ * DockerHttpClient decorator that times every request and reports it to a {@link DockerApiRecorder}.
+ *
+ * Streaming responses (pull progress, followed logs, exec output) are timed until their body is closed, so a pull
+ * counts with its full duration and not only until the first progress message.
+ */
+class InstrumentedDockerHttpClient implements DockerHttpClient {
+
+    // Operations by method and API path, without the /v1.xx version prefix and the query string
+    private static final List<Route> ROUTES = List.of(
+            new Route("POST", "/containers/create", "create"),
+            new Route("POST", "/containers/([^/]+)/start", "start"),
+            new Route("POST", "/containers/([^/]+)/stop", "stop"),
+            new Route("POST", "/containers/([^/]+)/kill", "kill"),
+            new Route("POST", "/containers/([^/]+)/wait", "wait"),
+            new Route("DELETE", "/containers/([^/]+)", "remove"),
+            new Route("GET", "/containers/([^/]+)/json", "inspect"),
+            new Route("GET", "/containers/([^/]+)/logs", "logs"),
+            new Route("POST", "/containers/([^/]+)/attach", "attach"),
+            new Route("PUT", "/containers/([^/]+)/archive", "copy-to"),
+            new Route("GET", "/containers/([^/]+)/archive", "copy-from"),
+            new Route("POST", "/containers/([^/]+)/exec", "exec-create"),
+            new Route("POST", "/exec/([^/]+)/start", "exec-start"),
+            new Route("GET", "/exec/([^/]+)/json", "exec-inspect"),
+            new Route("GET", "/containers/json", "list-containers"),
+            new Route("POST", "/images/create", "pull"),
+            new Route("GET", "/images/(.+)/json", "image-inspect"),
+            new Route("GET", "/images/json", "list-images"),
+            new Route("POST", "/build", "build"),
+            new Route("POST", "/networks/create", "network-create"),
+            new Route("GET", "/_ping", "ping"),
+            new Route("GET", "/info", "info"),
+            new Route("GET", "/version", "version"));
+
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/v\\d+\\.\\d+");
+
+    private final DockerHttpClient delegate;
+    private final DockerApiRecorder recorder;
+
+    InstrumentedDockerHttpClient(DockerHttpClient delegate, DockerApiRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        Classified call = classify(request.method(), request.path());
+        long start = System.nanoTime();
+        try {
+            Response response = delegate.execute(request);
+            return new TimedResponse(response, call, start, response.getStatusCode() >= 400);
+        } catch (RuntimeException e) {
+            recorder.record(call.operation(), call.containerId(), call.detail(), System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    static Classified classify(String method, String pathAndQuery) {
+        String versionless = VERSION_PREFIX.matcher(pathAndQuery).replaceFirst("");
+        int queryStart = versionless.indexOf('?');
+        String path = queryStart < 0 ? versionless : versionless.substring(0, queryStart);
+
+        for (Route route : ROUTES) {
+            if (!route.method().equals(method)) {
+                continue;
+            }
+            Matcher matcher = route.pattern().matcher(path);
+            if (!matcher.matches()) {
+                continue;
+            }
+            String id = matcher.groupCount() > 0 ? matcher.group(1) : null;
+            if (route.operation().equals("pull")) {
+                return new Classified("pull", null, pulledImage(versionless));
+            }
+            if (route.operation().equals("image-inspect")) {
+                return new Classified("image-inspect", null, decode(id));
+            }
+            String containerId = path.startsWith("/containers/") && id != null ? shortId(id) : null;
+            return new Classified(route.operation(), containerId, path.startsWith("/exec/") ? "exec " + shortId(id) : path);
+        }
+        return new Classified(method + " " + path, null, path);
+    }
+
+    // fromImage and tag query parameters, in whatever order the client sent them
+    private static String pulledImage(String pathAndQuery) {
+        String image = "?";
+        String tag = null;
+        int queryStart = pathAndQuery.indexOf('?');
+        if (queryStart >= 0) {
+            for (String parameter : pathAndQuery.substring(queryStart + 1).split("&")) {
+                if (parameter.startsWith("fromImage=")) {
+                    image = decode(parameter.substring("fromImage=".length()));
+                } else if (parameter.startsWith("tag=")) {
+                    tag = decode(parameter.substring("tag=".length()));
+                }
+            }
+        }
+        return tag == null || tag.isEmpty() ? image : image + ":" + tag;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String shortId(String id) {
+        return id.length() > 12 && id.chars().allMatch(c -> Character.digit(c, 16) >= 0) ? id.substring(0, 12) : id;
+    }
+
+    record Classified(String operation, String containerId, String detail) {
+    }
+
+    private record Route(String method, Pattern pattern, String operation) {
+
+        private Route(String method, String path, String operation) {
+            this(method, Pattern.compile(path), operation);
+        }
+    }
+
+    private final class TimedResponse implements Response {
+
+        private final Response delegate;
+        private final Classified call;
+        private final long start;
+        private final boolean failed;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private TimedResponse(Response delegate, Classified call, long start, boolean failed) {
+            this.delegate = delegate;
+            this.call = call;
+            this.start = start;
+            this.failed = failed;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (recorded.compareAndSet(false, true)) {
+                    recorder.record(call.operation(), call.containerId(), call.detail(), System.nanoTime() - start, failed);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.instrumentation.InstrumentedDockerHttpClient.Classified;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+/**
+ * Uses a fake transport, no Docker needed.
+ */
+public class InstrumentedDockerHttpClientTest {
+
+    private static final String CONTAINER_ID = "3f2a9c1b7d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718293a4b5c6d7e8";
+
+    @Test
+    void shouldClassifyCallsByMethodAndPath() {
+        assertThat(InstrumentedDockerHttpClient.classify("POST", "/v1.41/containers/" + CONTAINER_ID + "/start"))
+                .isEqualTo(new Classified("start", "3f2a9c1b7d4e", "/containers/" + CONTAINER_ID + "/start"));
+        assertThat(InstrumentedDockerHttpClient.classify("GET", "/v1.41/containers/" + CONTAINER_ID + "/json").operation())
+                .isEqualTo("inspect");
+        assertThat(InstrumentedDockerHttpClient.classify("GET", "/v1.41/containers/json?all=true").operation())
+                .isEqualTo("list-containers");
+        assertThat(InstrumentedDockerHttpClient.classify("POST", "/v1.41/exec/" + CONTAINER_ID + "/start"))
+                .isEqualTo(new Classified("exec-start", null, "exec 3f2a9c1b7d4e"));
+        assertThat(InstrumentedDockerHttpClient.classify("POST", "/v1.41/images/create?tag=7.0.0&fromImage=confluentinc%2Fcp-kafka"))
+                .isEqualTo(new Classified("pull", null, "confluentinc/cp-kafka:7.0.0"));
+        assertThat(InstrumentedDockerHttpClient.classify("GET", "/v1.41/images/postgres:15/json"))
+                .isEqualTo(new Classified("image-inspect", null, "postgres:15"));
+        assertThat(InstrumentedDockerHttpClient.classify("GET", "/v1.41/volumes").operation())
+                .isEqualTo("GET /volumes");
+    }
+
+    @Test
+    void shouldRecordStreamingCallWhenBodyIsClosed() throws Exception {
+        DockerApiRecorder recorder = new DockerApiRecorder();
+        InstrumentedDockerHttpClient client = new InstrumentedDockerHttpClient(transport(request -> response(200)), recorder);
+        recorder.testClassStarted("com.example.SomeTest");
+
+        DockerHttpClient.Response response = client.execute(request("GET", "/v1.41/containers/" + CONTAINER_ID + "/logs"));
+        assertThat(recorder.totalCalls()).isZero();
+        Thread.sleep(20);
+        response.close();
+        response.close();
+
+        assertThat(recorder.totalCalls()).isEqualTo(1);
+        assertThat(recorder.operation("logs").totalMillis()).isGreaterThanOrEqualTo(20);
+        assertThat(recorder.report())
+                .contains("com.example.SomeTest")
+                .contains("3f2a9c1b7d4e");
+    }
+
+    @Test
+    void shouldCountFailedCalls() {
+        DockerApiRecorder recorder = new DockerApiRecorder();
+        InstrumentedDockerHttpClient client = new InstrumentedDockerHttpClient(transport(request -> {
+            if (request.path().endsWith("/create")) {
+                throw new IllegalStateException("connection refused");
+            }
+            return response(request.path().endsWith("/json") ? 404 : 200);
+        }), recorder);
+
+        assertThatThrownBy(() -> client.execute(request("POST", "/v1.41/containers/create")))
+                .isInstanceOf(IllegalStateException.class);
+        client.execute(request("GET", "/v1.41/containers/" + CONTAINER_ID + "/json")).close();
+        client.execute(request("GET", "/v1.41/_ping")).close();
+
+        assertThat(recorder.operation("create").failures()).isEqualTo(1);
+        assertThat(recorder.operation("inspect").failures()).isEqualTo(1);
+        assertThat(recorder.operation("ping").failures()).isZero();
+        assertThat(recorder.totalCalls()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldAttributeCallsToTheClassRunningOnEachThread() throws Exception {
+        DockerApiRecorder recorder = new DockerApiRecorder();
+        CyclicBarrier bothStarted = new CyclicBarrier(2);
+        Thread first = runTestClass(recorder, "com.example.FirstTest", 2, bothStarted);
+        Thread second = runTestClass(recorder, "com.example.SecondTest", 1, bothStarted);
+        first.join();
+        second.join();
+        recorder.record("ping", null, "ping", 1_000, false);
+
+        assertThat(recorder.report())
+                .containsPattern("com\\.example\\.FirstTest +2 calls")
+                .containsPattern("com\\.example\\.SecondTest +1 calls")
+                .containsPattern(Pattern.quote(DockerApiRecorder.OUTSIDE_TESTS) + " +1 calls");
+    }
+
+    // Starts the class, waits until the other class has started too, then records calls on a child thread
+    private static Thread runTestClass(DockerApiRecorder recorder, String className, int calls, CyclicBarrier barrier) {
+        Thread worker = new Thread(() -> {
+            recorder.testClassStarted(className);
+            try {
+                barrier.await();
+                Thread child = new Thread(() -> {
+                    for (int i = 0; i < calls; i++) {
+                        recorder.record("start", CONTAINER_ID, "start", 1_000, false);
+                    }
+                });
+                child.start();
+                child.join();
+            } catch (InterruptedException | BrokenBarrierException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                recorder.testClassFinished(className);
+            }
+        });
+        worker.start();
+        return worker;
+    }
+
+    private static DockerHttpClient transport(Function<DockerHttpClient.Request, DockerHttpClient.Response> handler) {
+        return new DockerHttpClient() {
+            @Override
+            public Response execute(Request request) {
+                return handler.apply(request);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static DockerHttpClient.Request request(String method, String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.valueOf(method))
+                .path(path)
+                .build();
+    }
+
+    private static DockerHttpClient.Response response(int status) {
+        return new DockerHttpClient.Response() {
+            @Override
+            public int getStatusCode() {
+                return status;
+            }
+
+            @Override
+            public Map<String, List<String>> getHeaders() {
+                return Map.of();
+            }
+
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
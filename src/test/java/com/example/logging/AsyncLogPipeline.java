@@ -0,0 +1,268 @@
+package com.example.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Log consumer that decouples container log streaming from slow log sinks.
+ *
+ * Frames are put on a bounded queue by the docker-java callback thread and delivered to every sink by a
+ * single dispatcher thread, so a slow appender cannot stall the log stream that {@code Wait.forLogMessage}
+ * reads from. What happens when the queue is full is decided by the {@link OverflowPolicy}.
+ *
+ * <pre>
+ * AsyncLogPipeline pipeline = AsyncLogPipeline.to(new Slf4jLogConsumer(logger), new RingBufferLogConsumer(65536))
+ *         .withCapacity(10_000)
+ *         .withOverflowPolicy(AsyncLogPipeline.OverflowPolicy.DROP);
+ * container.withLogConsumer(pipeline);
+ * ...
+ * container.stop();
+ * pipeline.close();
+ * </pre>
+ *
+ * Close the pipeline only after the container has stopped: frames arriving after {@link #close()} are dropped,
+ * including the shutdown logs and the END frame that file sinks flush on. With {@code @Container} fields the
+ * container is stopped after every {@code @AfterAll} method, so such tests start and stop it themselves.
+ */
+public class AsyncLogPipeline implements Consumer<OutputFrame>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLogPipeline.class);
+    private static final int DEFAULT_CAPACITY = 10_000;
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+
+    /**
+     * What to do with a frame that arrives while the queue is (nearly) full.
+     */
+    public enum OverflowPolicy {
+        // Discard the new frame and count it
+        DROP,
+        // Wait for space; the log stream slows down to the pace of the sinks
+        BLOCK,
+        // Above 75% fill keep only every n-th frame, drop when completely full
+        SAMPLE
+    }
+
+    private final List<Consumer<OutputFrame>> sinks;
+    private int capacity = DEFAULT_CAPACITY;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private int sampleRate = DEFAULT_SAMPLE_RATE;
+
+    private BlockingQueue<Entry> queue;
+    private Thread dispatcher;
+    private volatile boolean closed;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampledOut = new AtomicLong();
+    private final AtomicLong maxQueueDepth = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private volatile long lastLagNanos;
+
+    private AsyncLogPipeline(List<Consumer<OutputFrame>> sinks) {
+        this.sinks = sinks;
+    }
+
+    /**
+     * Factory method to create a pipeline fanning out to the given sinks.
+     * @param sinks Consumers called on the dispatcher thread, in order
+     * @return AsyncLogPipeline instance
+     */
+    @SafeVarargs
+    public static AsyncLogPipeline to(Consumer<OutputFrame>... sinks) {
+        // Copied element by element so the generic array never escapes this method
+        List<Consumer<OutputFrame>> copy = new ArrayList<>(sinks.length);
+        for (Consumer<OutputFrame> sink : sinks) {
+            copy.add(sink);
+        }
+        return new AsyncLogPipeline(List.copyOf(copy));
+    }
+
+    /**
+     * Sink appending raw frame bytes to a file, flushed at the end of the stream.
+     * @param file Target file, created if missing
+     * @return Consumer writing to the file
+     */
+    public static Consumer<OutputFrame> fileSink(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            OutputStream out = new BufferedOutputStream(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+            return frame -> {
+                try {
+                    if (frame.getType() == OutputFrame.OutputType.END) {
+                        out.close();
+                    } else if (frame.getBytes() != null) {
+                        out.write(frame.getBytes());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log file " + file, e);
+        }
+    }
+
+    public AsyncLogPipeline withCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+        this.capacity = capacity;
+        return this;
+    }
+
+    public AsyncLogPipeline withOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+        return this;
+    }
+
+    /**
+     * Sets n for {@link OverflowPolicy#SAMPLE}: one in n frames is kept while the queue is above 75% full.
+     */
+    public AsyncLogPipeline withSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive, got " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        BlockingQueue<Entry> target = ensureStarted();
+        long sequence = accepted.incrementAndGet();
+        Entry entry = new Entry(frame, System.nanoTime());
+
+        // The END frame must always reach the sinks so they can flush
+        boolean mustDeliver = frame.getType() == OutputFrame.OutputType.END;
+        if (mustDeliver || overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                target.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.incrementAndGet();
+                return;
+            }
+        } else if (overflowPolicy == OverflowPolicy.SAMPLE
+                && target.size() >= capacity * 3L / 4 && sequence % sampleRate != 0) {
+            sampledOut.incrementAndGet();
+            return;
+        } else if (!target.offer(entry)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        maxQueueDepth.accumulateAndGet(target.size(), Math::max);
+    }
+
+    private synchronized BlockingQueue<Entry> ensureStarted() {
+        if (queue == null) {
+            queue = new ArrayBlockingQueue<>(capacity);
+            dispatcher = new Thread(this::dispatch, "async-log-pipeline");
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+        }
+        return queue;
+    }
+
+    private void dispatch() {
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Entry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (entry == null) {
+                    continue;
+                }
+                long lag = System.nanoTime() - entry.enqueuedNanos();
+                lastLagNanos = lag;
+                maxLagNanos.accumulateAndGet(lag, Math::max);
+                for (Consumer<OutputFrame> sink : sinks) {
+                    try {
+                        sink.accept(entry.frame());
+                    } catch (RuntimeException e) {
+                        logger.warn("Log sink {} failed", sink.getClass().getSimpleName(), e);
+                    }
+                }
+                delivered.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops accepting frames, delivers what is still queued (up to five seconds) and stops the dispatcher.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread;
+        synchronized (this) {
+            thread = dispatcher;
+        }
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.debug("Log pipeline closed: delivered={}, dropped={}, sampledOut={}, maxDepth={}, maxLag={} ms",
+                getDeliveredFrames(), getDroppedFrames(), getSampledOutFrames(), getMaxQueueDepth(), getMaxLagMillis());
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getAcceptedFrames() {
+        return accepted.get();
+    }
+
+    public long getDeliveredFrames() {
+        return delivered.get();
+    }
+
+    public long getDroppedFrames() {
+        return dropped.get();
+    }
+
+    public long getSampledOutFrames() {
+        return sampledOut.get();
+    }
+
+    // Time the most recently delivered frame spent in the queue
+    public long getLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLagNanos);
+    }
+
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get());
+    }
+
+    private record Entry(OutputFrame frame, long enqueuedNanos) {
+    }
+}
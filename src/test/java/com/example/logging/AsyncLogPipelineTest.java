@@ -0,0 +1,98 @@
+package com.example.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncLogPipelineTest {
+
+    @Test
+    void shouldDeliverFramesToEverySinkInOrder() {
+        List<String> first = new CopyOnWriteArrayList<>();
+        RingBufferLogConsumer second = new RingBufferLogConsumer(1024);
+
+        AsyncLogPipeline pipeline = AsyncLogPipeline.to(frame -> first.add(frame.getUtf8StringWithoutLineEnding()), second);
+        pipeline.accept(frame("one\n"));
+        pipeline.accept(frame("two\n"));
+        pipeline.close();
+
+        assertEquals(List.of("one", "two"), first);
+        assertEquals("one\ntwo\n", second.toUtf8String());
+        assertEquals(2, pipeline.getDeliveredFrames());
+        assertEquals(0, pipeline.getDroppedFrames());
+    }
+
+    @Test
+    void shouldDropWhenQueueIsFullInsteadOfBlockingTheProducer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Consumer<OutputFrame> slowSink = frame -> awaitQuietly(release);
+
+        AsyncLogPipeline pipeline = AsyncLogPipeline.to(slowSink)
+                .withCapacity(2)
+                .withOverflowPolicy(AsyncLogPipeline.OverflowPolicy.DROP);
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            pipeline.accept(frame("line " + i + "\n"));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1_000, "Producer should never wait for the slow sink");
+        assertTrue(pipeline.getDroppedFrames() >= 47, "Frames beyond queue capacity should be dropped");
+        assertTrue(pipeline.getMaxQueueDepth() <= 2);
+
+        release.countDown();
+        pipeline.close();
+        assertEquals(50, pipeline.getDeliveredFrames() + pipeline.getDroppedFrames());
+    }
+
+    @Test
+    void shouldSampleWhenQueueIsNearlyFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncLogPipeline pipeline = AsyncLogPipeline.to(frame -> awaitQuietly(release))
+                .withCapacity(8)
+                .withSampleRate(4)
+                .withOverflowPolicy(AsyncLogPipeline.OverflowPolicy.SAMPLE);
+        for (int i = 0; i < 100; i++) {
+            pipeline.accept(frame("line " + i + "\n"));
+        }
+
+        assertTrue(pipeline.getSampledOutFrames() > 0, "Frames should be sampled out above the high-water mark");
+        release.countDown();
+        pipeline.close();
+    }
+
+    @Test
+    void shouldWriteFileSinkAndFlushOnEnd(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("container.log");
+        AsyncLogPipeline pipeline = AsyncLogPipeline.to(AsyncLogPipeline.fileSink(file));
+        pipeline.accept(frame("persisted\n"));
+        pipeline.accept(OutputFrame.END);
+        pipeline.close();
+
+        assertEquals("persisted\n", Files.readString(file));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OutputFrame frame(String text) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
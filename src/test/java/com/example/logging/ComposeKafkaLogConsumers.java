@@ -3,9 +3,9 @@ package com.example.logging;
 import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.ToStringConsumer;
-import org.testcontainers.containers.output.WaitingConsumer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -15,13 +15,19 @@ public class ComposeKafkaLogConsumers {
                 .withCommand("sh", "-c", "echo Init && sleep 1 && echo STARTED");
 
         ToStringConsumer stringConsumer = new ToStringConsumer();
-        WaitingConsumer waitingConsumer = new WaitingConsumer();
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        CompletableFuture<Void> started = watcher.watch("STARTED");
+        CompletableFuture<Void> failed = watcher.watch("ERROR");
 
-        Consumer<OutputFrame> composed = stringConsumer.andThen(waitingConsumer);
+        Consumer<OutputFrame> composed = stringConsumer.andThen(watcher);
         kafka.followOutput(composed);
         kafka.start();
 
-        waitingConsumer.waitUntil(frame -> frame.getUtf8String().contains("STARTED"), 10, TimeUnit.SECONDS);
+        // One pass over the output watches for both signatures
+        LogPatternWatcher.await(started, 10, TimeUnit.SECONDS);
+        if (failed.isDone()) {
+            System.out.println("Kafka logged an ERROR during startup");
+        }
         System.out.println("Kafka Container Logs:\n" + stringConsumer.toUtf8String());
         kafka.stop();
     }
@@ -9,10 +9,11 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
-import org.testcontainers.containers.output.ToStringConsumer;
 import org.testcontainers.containers.output.WaitingConsumer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -68,30 +69,33 @@ public class ContainerLogsTest {
 
     @Test
     void captureMySQLLogsToString() throws InterruptedException {
-        // Captures MySQL logs into a string buffer using ToStringConsumer
+        // Captures the last 64 KB of MySQL logs into a bounded ring buffer
         MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8");
         mysql.start();
 
         //LOGGER.debug(postgres.getLogs()); // prints startup logs
 
-        ToStringConsumer consumer = new ToStringConsumer();
+        RingBufferLogConsumer consumer = new RingBufferLogConsumer(64 * 1024);
         mysql.followOutput(consumer, OutputFrame.OutputType.STDOUT);
 
         Thread.sleep(1000); // Give some time for logs to accumulate
-        System.out.println("=== Captured Logs ===\n" + consumer.toUtf8String());
+        System.out.println("=== Captured Logs (last 20 lines) ===\n" + consumer.tail(20));
+        logger.info("Captured {} bytes, dropped {} bytes", consumer.getTotalBytes(), consumer.getDroppedBytes());
         mysql.stop();
     }
 
     @Test
     void waitForPostgresLogMessage() throws InterruptedException, TimeoutException {
-        // Waits for a specific log message in PostgreSQL container logs using WaitingConsumer
+        // Waits for a specific log message in PostgreSQL container logs using LogPatternWatcher
         PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
         postgres.start();
 
-        WaitingConsumer consumer = new WaitingConsumer();
-        postgres.followOutput(consumer, OutputFrame.OutputType.STDOUT);
+        // Matches on the raw frame bytes; no String is created per frame
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        CompletableFuture<Void> ready = watcher.watch("ready");
+        postgres.followOutput(watcher, OutputFrame.OutputType.STDOUT);
 
-        consumer.waitUntil(frame -> frame.getUtf8String().contains("ready"), 30, TimeUnit.SECONDS);
+        LogPatternWatcher.await(ready, 30, TimeUnit.SECONDS);
         System.out.println("PostgreSQL is ready!");
     }
 
@@ -101,11 +105,11 @@ public class ContainerLogsTest {
         KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.2.1"))
                 .withLogConsumer(new Slf4jLogConsumer(logger).withSeparateOutputStreams());
 
-        ToStringConsumer stringConsumer = new ToStringConsumer();
+        RingBufferLogConsumer ringConsumer = new RingBufferLogConsumer(256 * 1024);
         WaitingConsumer waitingConsumer = new WaitingConsumer();
 
         // Combine consumers to handle logs in parallel
-        Consumer<OutputFrame> composed = stringConsumer.andThen(waitingConsumer);
+        Consumer<OutputFrame> composed = ringConsumer.andThen(waitingConsumer);
 
         //kafka.followOutput(composed);
         kafka.start();
@@ -116,7 +120,24 @@ public class ContainerLogsTest {
                 60, TimeUnit.SECONDS
         );
 
-        System.out.println("Kafka Container Logs:\n" + stringConsumer.toUtf8String());
+        System.out.println("Kafka Container Logs (last 50 lines):\n" + ringConsumer.tail(50));
+        logger.info("Kafka server lines: {}", ringConsumer.grep("(kafka.server.KafkaServer)", 10));
         kafka.stop();
     }
+
+    @Test
+    void archiveKafkaLogsToMappedSegments() {
+        // Soak-style runs: logs go to memory-mapped files under target/ instead of the heap
+        Path archiveDir = Path.of("target", "container-logs", "kafka-" + System.currentTimeMillis());
+        try (MappedLogArchiveConsumer archive = new MappedLogArchiveConsumer(archiveDir);
+             KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.2.1"))
+                     .withLogConsumer(archive)) {
+            kafka.start();
+
+            MappedLogArchiveReader reader = new MappedLogArchiveReader(archiveDir);
+            assertTrue(reader.count() > 0);
+            logger.info("Archived {} bytes to {}, server lines: {}", archive.getArchivedBytes(), archiveDir,
+                    reader.grep("(kafka.server.KafkaServer)", 10));
+        }
+    }
 }
@@ -0,0 +1,172 @@
+package com.example.logging;
+
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Log consumer that watches container output for many literal patterns in a single pass.
+ *
+ * All patterns are compiled into one Aho-Corasick automaton that runs directly on the frame bytes, so a
+ * frame is never decoded to a String and each byte is inspected once regardless of how many patterns are
+ * registered. Matching state is kept per output stream, which means a line split across several frames
+ * still matches. Patterns never span lines: the automaton is reset at every newline.
+ *
+ * Each pattern gets a {@link CompletableFuture} that completes on its first match.
+ *
+ * <pre>
+ * LogPatternWatcher watcher = new LogPatternWatcher();
+ * CompletableFuture&lt;Void&gt; started = watcher.watch("started (kafka.server.KafkaServer)");
+ * CompletableFuture&lt;Void&gt; failed = watcher.watch("FATAL");
+ * kafka.followOutput(watcher);
+ * </pre>
+ */
+public class LogPatternWatcher implements Consumer<OutputFrame> {
+
+    private final List<String> patterns = new ArrayList<>();
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    // Current automaton state per output stream; rebuilt lazily when patterns change
+    private final Map<OutputFrame.OutputType, Integer> states = new EnumMap<>(OutputFrame.OutputType.class);
+    private Automaton automaton;
+
+    /**
+     * Registers a literal pattern. Patterns must be registered before frames that should match them arrive.
+     * @param literal Text to look for
+     * @return Future completed on the first line containing the text
+     */
+    public synchronized CompletableFuture<Void> watch(String literal) {
+        if (literal.isEmpty() || literal.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("Pattern must be non-empty and single-line: '" + literal + "'");
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        patterns.add(literal);
+        futures.add(future);
+        automaton = null;
+        states.clear();
+        return future;
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame frame) {
+        byte[] bytes = frame.getBytes();
+        if (bytes == null || patterns.isEmpty()) {
+            return;
+        }
+        if (automaton == null) {
+            automaton = new Automaton(patterns);
+        }
+        int state = states.getOrDefault(frame.getType(), 0);
+        for (byte b : bytes) {
+            if (b == '\n') {
+                state = 0;
+                continue;
+            }
+            state = automaton.next(state, b);
+            for (int pattern : automaton.outputs(state)) {
+                futures.get(pattern).complete(null);
+            }
+        }
+        states.put(frame.getType(), state);
+    }
+
+    /**
+     * Waits until the given future completes, like {@code WaitingConsumer.waitUntil}.
+     * @throws TimeoutException if the pattern was not seen in time
+     */
+    public static void await(CompletableFuture<Void> match, long timeout, TimeUnit unit)
+            throws TimeoutException, InterruptedException {
+        try {
+            match.get(timeout, unit);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Byte-level Aho-Corasick automaton with a full goto table, so each input byte costs one array lookup.
+     */
+    private static final class Automaton {
+        private static final int[] NO_OUTPUT = new int[0];
+
+        private final List<int[]> transitions = new ArrayList<>();
+        private final List<int[]> outputs = new ArrayList<>();
+
+        private Automaton(List<String> patterns) {
+            List<List<Integer>> pendingOutputs = new ArrayList<>();
+            addState(pendingOutputs);
+
+            // Build the trie
+            for (int index = 0; index < patterns.size(); index++) {
+                int state = 0;
+                for (byte b : patterns.get(index).getBytes(StandardCharsets.UTF_8)) {
+                    int symbol = b & 0xFF;
+                    if (transitions.get(state)[symbol] < 0) {
+                        transitions.get(state)[symbol] = addState(pendingOutputs);
+                    }
+                    state = transitions.get(state)[symbol];
+                }
+                pendingOutputs.get(state).add(index);
+            }
+
+            // Breadth-first pass: compute failure links and turn them into direct transitions
+            int[] failure = new int[transitions.size()];
+            Deque<Integer> queue = new ArrayDeque<>();
+            int[] root = transitions.get(0);
+            for (int symbol = 0; symbol < 256; symbol++) {
+                if (root[symbol] < 0) {
+                    root[symbol] = 0;
+                } else {
+                    failure[root[symbol]] = 0;
+                    queue.add(root[symbol]);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                pendingOutputs.get(state).addAll(pendingOutputs.get(failure[state]));
+                int[] row = transitions.get(state);
+                for (int symbol = 0; symbol < 256; symbol++) {
+                    int target = row[symbol];
+                    if (target < 0) {
+                        row[symbol] = transitions.get(failure[state])[symbol];
+                    } else {
+                        failure[target] = transitions.get(failure[state])[symbol];
+                        queue.add(target);
+                    }
+                }
+            }
+
+            for (List<Integer> pending : pendingOutputs) {
+                outputs.add(pending.isEmpty() ? NO_OUTPUT : pending.stream().distinct().mapToInt(Integer::intValue).toArray());
+            }
+        }
+
+        private int addState(List<List<Integer>> pendingOutputs) {
+            int[] row = new int[256];
+            Arrays.fill(row, -1);
+            transitions.add(row);
+            pendingOutputs.add(new ArrayList<>());
+            return transitions.size() - 1;
+        }
+
+        private int next(int state, byte b) {
+            return transitions.get(state)[b & 0xFF];
+        }
+
+        private int[] outputs(int state) {
+            return outputs.get(state);
+        }
+    }
+}
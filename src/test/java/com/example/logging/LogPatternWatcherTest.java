@@ -0,0 +1,78 @@
+package com.example.logging;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogPatternWatcherTest {
+
+    @Test
+    void shouldCompleteEveryMatchingPatternInOnePass() {
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        CompletableFuture<Void> started = watcher.watch("started (kafka.server.KafkaServer)");
+        CompletableFuture<Void> error = watcher.watch("ERROR");
+        CompletableFuture<Void> missing = watcher.watch("shutting down");
+
+        watcher.accept(frame(OutputType.STDOUT, "[2024] INFO [KafkaServer id=1] started (kafka.server.KafkaServer)\n"));
+        watcher.accept(frame(OutputType.STDOUT, "[2024] ERROR something odd\n"));
+
+        assertTrue(started.isDone());
+        assertTrue(error.isDone());
+        assertFalse(missing.isDone());
+    }
+
+    @Test
+    void shouldMatchLineSplitAcrossFrames() {
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        CompletableFuture<Void> ready = watcher.watch("ready to accept connections");
+
+        watcher.accept(frame(OutputType.STDOUT, "database system is rea"));
+        assertFalse(ready.isDone());
+        watcher.accept(frame(OutputType.STDOUT, "dy to accept connections\n"));
+
+        assertTrue(ready.isDone());
+    }
+
+    @Test
+    void shouldFindOverlappingPatterns() {
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        CompletableFuture<Void> he = watcher.watch("he");
+        CompletableFuture<Void> she = watcher.watch("she");
+        CompletableFuture<Void> hers = watcher.watch("hers");
+
+        watcher.accept(frame(OutputType.STDOUT, "ushers\n"));
+
+        assertTrue(he.isDone());
+        assertTrue(she.isDone());
+        assertTrue(hers.isDone());
+    }
+
+    @Test
+    void shouldNotMatchAcrossLinesOrStreams() {
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        CompletableFuture<Void> started = watcher.watch("STARTED");
+
+        watcher.accept(frame(OutputType.STDOUT, "STAR\nTED\n"));
+        watcher.accept(frame(OutputType.STDOUT, "STAR"));
+        watcher.accept(frame(OutputType.STDERR, "TED\n"));
+
+        assertFalse(started.isDone());
+    }
+
+    @Test
+    void shouldRejectMultiLinePattern() {
+        LogPatternWatcher watcher = new LogPatternWatcher();
+        assertThrows(IllegalArgumentException.class, () -> watcher.watch("a\nb"));
+    }
+
+    private static OutputFrame frame(OutputType type, String text) {
+        return new OutputFrame(type, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
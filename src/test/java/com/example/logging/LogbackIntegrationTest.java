@@ -4,17 +4,16 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@Testcontainers
 public class LogbackIntegrationTest {
     private static final Logger logger = LoggerFactory.getLogger(LogbackIntegrationTest.class);
     
@@ -23,10 +22,28 @@ public class LogbackIntegrationTest {
      * Capture and redirect the container stdout/stderr logs (application logs inside the container) to the application logger.
      */
     
-    @Container
+    // Slf4jLogConsumer runs on the pipeline thread, so a slow appender cannot stall log streaming
+    private static final AsyncLogPipeline logPipeline = AsyncLogPipeline.to(new Slf4jLogConsumer(logger))
+        .withCapacity(5_000)
+        .withOverflowPolicy(AsyncLogPipeline.OverflowPolicy.BLOCK);
+
     private static final PostgreSQLContainer<?> postgres = 
         new PostgreSQLContainer<>("postgres:15")
-        .withLogConsumer(new Slf4jLogConsumer(logger));
+        .withLogConsumer(logPipeline);
+
+    @BeforeAll
+    static void startContainer() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void closeLogPipeline() {
+        // The counters below then include Postgres' shutdown logs; see AsyncLogPipeline for the ordering
+        postgres.stop();
+        logPipeline.close();
+        logger.info("Log pipeline delivered {} frames, max queue depth {}, max lag {} ms",
+                logPipeline.getDeliveredFrames(), logPipeline.getMaxQueueDepth(), logPipeline.getMaxLagMillis());
+    }
 
     @Test
     void test() {
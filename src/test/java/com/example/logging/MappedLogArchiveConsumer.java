@@ -0,0 +1,121 @@
+package com.example.logging;
+
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Log consumer that archives container output into memory-mapped segment files instead of the heap.
+ *
+ * Every STDOUT/STDERR frame becomes one record: an 8 byte timestamp (epoch millis), a 1 byte stream type,
+ * a 4 byte payload length and the raw payload. Records are appended to {@code segment-NNNNN.log} files of
+ * a fixed size inside the archive directory; a zero type byte marks the end of the written data. The
+ * page cache, not the JVM heap, holds the data, so long soak runs can log gigabytes and the files survive
+ * the test run for post-mortems. Read archives with {@link MappedLogArchiveReader}.
+ */
+public class MappedLogArchiveConsumer implements Consumer<OutputFrame>, AutoCloseable {
+
+    static final int HEADER_BYTES = Long.BYTES + Byte.BYTES + Integer.BYTES;
+    static final byte END_OF_DATA = 0;
+    static final byte TYPE_STDOUT = 1;
+    static final byte TYPE_STDERR = 2;
+    static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentBytes;
+
+    private MappedByteBuffer segment;
+    private int segmentIndex = -1;
+    private long archivedBytes;
+    private long archivedFrames;
+
+    /**
+     * Creates an archive with 16 MB segments.
+     * @param directory Directory for this container's segments, created if missing
+     */
+    public MappedLogArchiveConsumer(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public MappedLogArchiveConsumer(Path directory, int segmentBytes) {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must exceed the " + HEADER_BYTES + " byte header");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create log archive directory " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame frame) {
+        byte type = switch (frame.getType()) {
+            case STDOUT -> TYPE_STDOUT;
+            case STDERR -> TYPE_STDERR;
+            default -> END_OF_DATA;
+        };
+        byte[] payload = frame.getBytes();
+        if (type == END_OF_DATA || payload == null) {
+            return;
+        }
+
+        int recordBytes = HEADER_BYTES + payload.length;
+        // Keep one spare byte so the end-of-data marker always fits behind the last record
+        if (segment == null || segment.remaining() < recordBytes + 1) {
+            roll(recordBytes + 1);
+        }
+        segment.putLong(System.currentTimeMillis());
+        segment.put(type);
+        segment.putInt(payload.length);
+        segment.put(payload);
+        archivedBytes += payload.length;
+        archivedFrames++;
+    }
+
+    private void roll(int minimumBytes) {
+        if (segment != null) {
+            segment.force();
+        }
+        segmentIndex++;
+        Path file = directory.resolve(MappedLogArchiveReader.segmentName(segmentIndex));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // A mapping stays valid after its channel is closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentBytes, minimumBytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create log segment " + file, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized long getArchivedBytes() {
+        return archivedBytes;
+    }
+
+    public synchronized long getArchivedFrames() {
+        return archivedFrames;
+    }
+
+    /**
+     * Flushes the current segment to disk. The mapping itself is released by the garbage collector.
+     */
+    @Override
+    public synchronized void close() {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+}
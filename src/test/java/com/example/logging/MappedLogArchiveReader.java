@@ -0,0 +1,141 @@
+package com.example.logging;
+
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads an archive written by {@link MappedLogArchiveConsumer} without loading it onto the heap.
+ *
+ * Segments are mapped read-only and every record is handed out as a {@link ByteBuffer} view of the mapping;
+ * only the lines returned by {@link #grep(String, int)} are decoded into Strings.
+ */
+public class MappedLogArchiveReader {
+
+    private final Path directory;
+
+    public MappedLogArchiveReader(Path directory) {
+        this.directory = directory;
+    }
+
+    static String segmentName(int index) {
+        return String.format("segment-%05d.log", index);
+    }
+
+    /**
+     * Calls {@code action} for every archived frame, oldest first. The payload buffer is only valid
+     * during the callback.
+     */
+    public void forEach(Consumer<ArchivedFrame> action) {
+        for (Path segment : segments()) {
+            MappedByteBuffer buffer = map(segment);
+            while (buffer.remaining() >= MappedLogArchiveConsumer.HEADER_BYTES) {
+                long timestamp = buffer.getLong();
+                byte type = buffer.get();
+                if (type == MappedLogArchiveConsumer.END_OF_DATA) {
+                    break;
+                }
+                int length = buffer.getInt();
+                ByteBuffer payload = buffer.slice(buffer.position(), length).asReadOnlyBuffer();
+                buffer.position(buffer.position() + length);
+                action.accept(new ArchivedFrame(timestamp,
+                        type == MappedLogArchiveConsumer.TYPE_STDOUT ? OutputType.STDOUT : OutputType.STDERR,
+                        payload));
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code maxLines} archived lines containing {@code needle}, oldest first.
+     * Matching happens on the raw bytes; only matching lines are decoded.
+     */
+    public List<String> grep(String needle, int maxLines) {
+        byte[] pattern = needle.getBytes(StandardCharsets.UTF_8);
+        List<String> matches = new ArrayList<>();
+        forEach(frame -> {
+            if (matches.size() >= maxLines) {
+                return;
+            }
+            ByteBuffer payload = frame.payload();
+            int lineStart = payload.position();
+            for (int i = payload.position(); i <= payload.limit(); i++) {
+                if (i == payload.limit() || payload.get(i) == '\n') {
+                    if (matches.size() < maxLines && containsAt(payload, lineStart, i, pattern)) {
+                        matches.add(decode(payload, lineStart, i));
+                    }
+                    lineStart = i + 1;
+                }
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * @return Number of archived frames
+     */
+    public long count() {
+        long[] count = {0};
+        forEach(frame -> count[0]++);
+        return count[0];
+    }
+
+    private static boolean containsAt(ByteBuffer buffer, int from, int to, byte[] pattern) {
+        outer:
+        for (int start = from; start <= to - pattern.length; start++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer.get(start + j) != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static String decode(ByteBuffer buffer, int from, int to) {
+        int end = (to > from && buffer.get(to - 1) == '\r') ? to - 1 : to;
+        byte[] bytes = new byte[end - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("segment-\\d{5}\\.log"))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list log archive " + directory, e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path segment) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map log segment " + segment, e);
+        }
+    }
+
+    /**
+     * One archived frame; {@code payload} is a read-only view into the mapped segment.
+     */
+    public record ArchivedFrame(long timestampMillis, OutputType type, ByteBuffer payload) {
+
+        public String getUtf8String() {
+            return StandardCharsets.UTF_8.decode(payload.duplicate()).toString();
+        }
+    }
+}
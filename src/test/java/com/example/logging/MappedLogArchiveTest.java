@@ -0,0 +1,84 @@
+package com.example.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedLogArchiveTest {
+
+    @Test
+    void shouldReadBackFramesInOrderWithStreamType(@TempDir Path dir) {
+        try (MappedLogArchiveConsumer archive = new MappedLogArchiveConsumer(dir)) {
+            archive.accept(frame(OutputType.STDOUT, "starting\n"));
+            archive.accept(frame(OutputType.STDERR, "warning\n"));
+            archive.accept(OutputFrame.END);
+        }
+
+        List<String> lines = new ArrayList<>();
+        List<OutputType> types = new ArrayList<>();
+        new MappedLogArchiveReader(dir).forEach(frame -> {
+            lines.add(frame.getUtf8String());
+            types.add(frame.type());
+        });
+
+        assertEquals(List.of("starting\n", "warning\n"), lines);
+        assertEquals(List.of(OutputType.STDOUT, OutputType.STDERR), types);
+    }
+
+    @Test
+    void shouldRollOverToNewSegments(@TempDir Path dir) throws Exception {
+        MappedLogArchiveConsumer archive = new MappedLogArchiveConsumer(dir, 256);
+        for (int i = 0; i < 100; i++) {
+            archive.accept(frame(OutputType.STDOUT, "line " + i + "\n"));
+        }
+        archive.close();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.count() > 1, "Archive should span several segments");
+        }
+        MappedLogArchiveReader reader = new MappedLogArchiveReader(dir);
+        assertEquals(100, reader.count());
+        assertEquals(100, archive.getArchivedFrames());
+    }
+
+    @Test
+    void shouldStoreFrameLargerThanSegment(@TempDir Path dir) {
+        String large = "x".repeat(1000) + "\n";
+        try (MappedLogArchiveConsumer archive = new MappedLogArchiveConsumer(dir, 64)) {
+            archive.accept(frame(OutputType.STDOUT, "before\n"));
+            archive.accept(frame(OutputType.STDOUT, large));
+            archive.accept(frame(OutputType.STDOUT, "after\n"));
+        }
+
+        assertEquals(List.of("before", "after"), new MappedLogArchiveReader(dir).grep("f", 10));
+        assertEquals(3, new MappedLogArchiveReader(dir).count());
+    }
+
+    @Test
+    void shouldGrepMatchingLinesOnly(@TempDir Path dir) {
+        try (MappedLogArchiveConsumer archive = new MappedLogArchiveConsumer(dir)) {
+            archive.accept(frame(OutputType.STDOUT, "INFO boot\nERROR disk full\r\n"));
+            archive.accept(frame(OutputType.STDOUT, "INFO ready\n"));
+            archive.accept(frame(OutputType.STDERR, "ERROR broker down\n"));
+        }
+
+        MappedLogArchiveReader reader = new MappedLogArchiveReader(dir);
+        assertEquals(List.of("ERROR disk full", "ERROR broker down"), reader.grep("ERROR", 10));
+        assertEquals(List.of("ERROR disk full"), reader.grep("ERROR", 1));
+    }
+
+    private static OutputFrame frame(OutputType type, String text) {
+        return new OutputFrame(type, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
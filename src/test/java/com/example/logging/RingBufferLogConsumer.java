@@ -0,0 +1,191 @@
+package com.example.logging;
+
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Log consumer that keeps only the last {@code capacity} bytes of container output in a fixed byte ring.
+ *
+ * Unlike {@link org.testcontainers.containers.output.ToStringConsumer}, memory use is bounded no matter how
+ * much a container logs, and {@link #tail(int)}, {@link #contains(String)} and {@link #grep(String, int)}
+ * work directly on the ring without copying the retained history. Bytes that were overwritten are counted
+ * in {@link #getDroppedBytes()}.
+ */
+public class RingBufferLogConsumer implements Consumer<OutputFrame> {
+
+    private static final byte NEWLINE = '\n';
+
+    private final byte[] ring;
+
+    // Total number of bytes ever written; the write position in the ring is written % capacity
+    private long written;
+
+    public RingBufferLogConsumer(int capacityBytes) {
+        if (capacityBytes < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacityBytes);
+        }
+        this.ring = new byte[capacityBytes];
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        byte[] bytes = frame.getBytes();
+        if (bytes != null && bytes.length > 0) {
+            write(bytes);
+        }
+    }
+
+    private synchronized void write(byte[] bytes) {
+        int capacity = ring.length;
+        int offset = 0;
+        int length = bytes.length;
+        if (length > capacity) {
+            // Only the tail of an oversized frame can survive
+            offset = length - capacity;
+            written += offset;
+            length = capacity;
+        }
+        int position = (int) (written % capacity);
+        int firstChunk = Math.min(length, capacity - position);
+        System.arraycopy(bytes, offset, ring, position, firstChunk);
+        System.arraycopy(bytes, offset + firstChunk, ring, 0, length - firstChunk);
+        written += length;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public synchronized long getTotalBytes() {
+        return written;
+    }
+
+    public synchronized long getRetainedBytes() {
+        return Math.min(written, ring.length);
+    }
+
+    public synchronized long getDroppedBytes() {
+        return Math.max(0, written - ring.length);
+    }
+
+    /**
+     * Returns the last {@code lines} complete or partial lines, oldest first.
+     * Only the returned region is decoded.
+     */
+    public synchronized String tail(int lines) {
+        if (lines < 1) {
+            return "";
+        }
+        long start = start();
+        long end = written;
+        // Ignore a trailing newline so that "last line" means the last non-empty line
+        long scan = (end > start && byteAt(end - 1) == NEWLINE) ? end - 1 : end;
+        int seen = 0;
+        while (scan > start) {
+            if (byteAt(scan - 1) == NEWLINE && ++seen == lines) {
+                break;
+            }
+            scan--;
+        }
+        return decode(scan, end);
+    }
+
+    /**
+     * Checks whether the retained output contains {@code needle}, matching on the raw bytes.
+     */
+    public synchronized boolean contains(String needle) {
+        byte[] pattern = needle.getBytes(StandardCharsets.UTF_8);
+        return indexOf(pattern, start(), written) >= 0;
+    }
+
+    /**
+     * Returns up to {@code maxLines} retained lines containing {@code needle}, oldest first.
+     * Only matching lines are decoded.
+     */
+    public synchronized List<String> grep(String needle, int maxLines) {
+        byte[] pattern = needle.getBytes(StandardCharsets.UTF_8);
+        List<String> matches = new ArrayList<>();
+        long lineStart = start();
+        long end = written;
+        while (lineStart < end && matches.size() < maxLines) {
+            long match = indexOf(pattern, lineStart, end);
+            if (match < 0) {
+                break;
+            }
+            long from = match;
+            while (from > lineStart && byteAt(from - 1) != NEWLINE) {
+                from--;
+            }
+            long to = match + pattern.length;
+            while (to < end && byteAt(to) != NEWLINE) {
+                to++;
+            }
+            matches.add(decode(from, to));
+            lineStart = to + 1;
+        }
+        return matches;
+    }
+
+    /**
+     * Copies the whole retained output into a String, like {@code ToStringConsumer.toUtf8String()}.
+     */
+    public synchronized String toUtf8String() {
+        return decode(start(), written);
+    }
+
+    private long start() {
+        return Math.max(0, written - ring.length);
+    }
+
+    private byte byteAt(long logicalIndex) {
+        return ring[(int) (logicalIndex % ring.length)];
+    }
+
+    // Knuth-Morris-Pratt search over the logical range [from, to) of the ring
+    private long indexOf(byte[] pattern, long from, long to) {
+        if (pattern.length == 0) {
+            return from;
+        }
+        int[] failure = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = failure[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            failure[i] = k;
+        }
+        int matched = 0;
+        for (long i = from; i < to; i++) {
+            byte b = byteAt(i);
+            while (matched > 0 && b != pattern[matched]) {
+                matched = failure[matched - 1];
+            }
+            if (b == pattern[matched]) {
+                matched++;
+            }
+            if (matched == pattern.length) {
+                return i - pattern.length + 1;
+            }
+        }
+        return -1;
+    }
+
+    private String decode(long from, long to) {
+        int length = (int) (to - from);
+        if (length <= 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        int position = (int) (from % ring.length);
+        int firstChunk = Math.min(length, ring.length - position);
+        System.arraycopy(ring, position, bytes, 0, firstChunk);
+        System.arraycopy(ring, 0, bytes, firstChunk, length - firstChunk);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.logging;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferLogConsumerTest {
+
+    @Test
+    void shouldKeepEverythingBelowCapacity() {
+        RingBufferLogConsumer consumer = new RingBufferLogConsumer(1024);
+        consumer.accept(frame("first line\n"));
+        consumer.accept(frame("second line\n"));
+
+        assertEquals("first line\nsecond line\n", consumer.toUtf8String());
+        assertEquals(0, consumer.getDroppedBytes());
+        assertEquals("second line\n", consumer.tail(1));
+    }
+
+    @Test
+    void shouldDropOldestBytesWhenFull() {
+        RingBufferLogConsumer consumer = new RingBufferLogConsumer(16);
+        consumer.accept(frame("line-1\n"));
+        consumer.accept(frame("line-2\n"));
+        consumer.accept(frame("line-3\n"));
+
+        assertEquals(21, consumer.getTotalBytes());
+        assertEquals(5, consumer.getDroppedBytes());
+        assertEquals(16, consumer.getRetainedBytes());
+        assertEquals("1\nline-2\nline-3\n", consumer.toUtf8String());
+        assertEquals("line-2\nline-3\n", consumer.tail(2));
+    }
+
+    @Test
+    void shouldKeepTailOfOversizedFrame() {
+        RingBufferLogConsumer consumer = new RingBufferLogConsumer(8);
+        consumer.accept(frame("0123456789abcdef"));
+
+        assertEquals("89abcdef", consumer.toUtf8String());
+        assertEquals(8, consumer.getDroppedBytes());
+    }
+
+    @Test
+    void shouldSearchAcrossRingWrapAround() {
+        RingBufferLogConsumer consumer = new RingBufferLogConsumer(20);
+        consumer.accept(frame("noise noise\n"));
+        consumer.accept(frame("server started\n"));
+
+        assertTrue(consumer.contains("started"));
+        assertFalse(consumer.contains("noise noise"), "Overwritten text should no longer match");
+        assertEquals(List.of("server started"), consumer.grep("started", 5));
+    }
+
+    @Test
+    void shouldIgnoreEndFrame() {
+        RingBufferLogConsumer consumer = new RingBufferLogConsumer(8);
+        consumer.accept(OutputFrame.END);
+
+        assertEquals(0, consumer.getTotalBytes());
+        assertEquals("", consumer.tail(3));
+    }
+
+    private static OutputFrame frame(String text) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.parallel;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Fails a test class that shares a container without holding the matching resource lock.
+ *
+ * Test classes run concurrently (see junit-platform.properties), and JUnit only serializes classes through the
+ * {@link ResourceLock}s they declare. JUnit 5.10 reads those locks from annotations at discovery time, so this
+ * extension cannot add them itself; instead it infers the locks a class needs with
+ * {@link ContainerLocks#inferFor(Class)} before the class starts and reports any that are missing, naming the
+ * annotation to add. Registered for every class through extension auto-detection.
+ */
+public class ContainerLockExtension implements BeforeAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        Set<String> missing = missingLocks(testClass);
+        if (!missing.isEmpty()) {
+            throw new ExtensionConfigurationException(testClass.getName() + " shares containers without a resource"
+                    + " lock and could race with other test classes running in parallel. Add "
+                    + missing.stream().map(lock -> "@ResourceLock(value = \"" + lock + "\", mode = ResourceAccessMode.READ)")
+                            .toList()
+                    + " (READ_WRITE if the class changes the container's data), or an @Inherited annotation carrying it"
+                    + " on the base class.");
+        }
+    }
+
+    static Set<String> missingLocks(Class<?> testClass) {
+        Set<String> missing = new TreeSet<>(ContainerLocks.inferFor(testClass));
+        AnnotationSupport.findRepeatableAnnotations(testClass, ResourceLock.class)
+                .forEach(lock -> missing.remove(lock.value()));
+        return missing;
+    }
+}
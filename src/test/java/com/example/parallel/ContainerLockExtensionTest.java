@@ -0,0 +1,54 @@
+package com.example.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Checks the lock inference on stand-in classes; only field types are inspected, so no container starts.
+ */
+public class ContainerLockExtensionTest {
+
+    private static final String SHARED_LOCK = "container:com.example.parallel.ContainerLockExtensionTest$SharedBase#shared";
+
+    static class SharedBase {
+        static GenericContainer<?> shared;
+    }
+
+    static class WithoutLock extends SharedBase {
+    }
+
+    @ResourceLock(value = SHARED_LOCK, mode = ResourceAccessMode.READ)
+    static class WithLock extends SharedBase {
+    }
+
+    static class PrivateContainer {
+        static PostgreSQLContainer<?> postgres;
+    }
+
+    @Test
+    void shouldInferLockForInheritedContainer() {
+        assertThat(ContainerLocks.inferFor(WithoutLock.class)).containsExactly(SHARED_LOCK);
+        assertThat(ContainerLockExtension.missingLocks(WithoutLock.class)).containsExactly(SHARED_LOCK);
+        assertThat(ContainerLockExtension.missingLocks(WithLock.class)).isEmpty();
+    }
+
+    @Test
+    void shouldNotLockPrivateContainers() {
+        assertThat(ContainerLocks.inferFor(PrivateContainer.class)).isEmpty();
+    }
+
+    @Test
+    void singletonTestsHoldTheSharedMySqlLock() throws Exception {
+        // Loaded without initialization, so the singleton container is not started
+        Class<?> testClass = Class.forName("com.example.singleton.FirstServiceIntegrationTest", false,
+                getClass().getClassLoader());
+
+        assertThat(ContainerLocks.inferFor(testClass)).containsExactly(ContainerLocks.SINGLETON_MYSQL);
+        assertThat(ContainerLockExtension.missingLocks(testClass)).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.parallel;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.testcontainers.lifecycle.Startable;
+
+/**
+ * Resource lock names for test classes that run in parallel, and the rules to infer which ones a class needs.
+ *
+ * A container is shared when a test class reaches a static container field declared in one of its superclasses,
+ * like {@code AbstractContainerBaseTest.MY_SQL_CONTAINER}; its lock is named after that field, see
+ * {@link #forField(Field)}. Classes that only read the shared container take the lock in
+ * {@code ResourceAccessMode.READ} and run alongside each other; a class that changes its data takes it in
+ * {@code READ_WRITE} and runs alone. Containers declared in the test class itself are private and need no lock.
+ *
+ * Fixed host ports cannot be inferred from fields, so classes binding one declare {@link #HOST_PORT_15432} by hand.
+ */
+public final class ContainerLocks {
+
+    /**
+     * The singleton MySQL container of {@code com.example.singleton.AbstractContainerBaseTest}.
+     */
+    public static final String SINGLETON_MYSQL = "container:com.example.singleton.AbstractContainerBaseTest#MY_SQL_CONTAINER";
+
+    /**
+     * Host port 15432, bound with a fixed port binding by the port mapping demos.
+     */
+    public static final String HOST_PORT_15432 = "host-port:15432";
+
+    private ContainerLocks() {
+    }
+
+    /**
+     * Lock name for a shared container field.
+     */
+    public static String forField(Field field) {
+        return "container:" + field.getDeclaringClass().getName() + "#" + field.getName();
+    }
+
+    /**
+     * Locks a test class needs: one per static container field it inherits from a superclass.
+     */
+    public static Set<String> inferFor(Class<?> testClass) {
+        Set<String> locks = new LinkedHashSet<>();
+        for (Class<?> type = testClass.getSuperclass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && Startable.class.isAssignableFrom(field.getType())) {
+                    locks.add(forField(field));
+                }
+            }
+        }
+        return locks;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.portmapping;
 
+import com.example.parallel.ContainerLocks;
 import com.github.dockerjava.api.model.ExposedPort;
 import com.github.dockerjava.api.model.PortBinding;
 import com.github.dockerjava.api.model.Ports;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.GenericContainer;
@@ -13,6 +15,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 @Testcontainers
+// Binds host port 15432, so never runs alongside the other fixed-port classes
+@ResourceLock(ContainerLocks.HOST_PORT_15432)
 public class FixedPortConflictTest {
     private static final Logger logger = LoggerFactory.getLogger(FixedPortConflictTest.class);
 
@@ -0,0 +1,211 @@
+package com.example.portmapping;
+
+import com.github.dockerjava.api.model.ExposedPort;
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.Ports;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Hands out host ports for fixed port bindings without conflicts between containers, test classes or
+ * surefire forks.
+ *
+ * A hard-coded Ports.Binding.bindPort(15432) fails as soon as two containers or two forks want the same
+ * port (see FixedPortConflictTest). The allocator instead picks the first free port of a range and holds an
+ * OS file lock on <lock dir>/port-<n>.lock while it is in use. Every JVM on the machine that uses the same
+ * lock directory therefore gets a different port, and the lock is released on close() or when the JVM dies,
+ * so there is no stale state to clean up. A port that another process has bound already is skipped.
+ *
+ * System properties:
+ *   port.allocator.range - inclusive range, default 15000-15999
+ *   port.allocator.dir   - lock directory shared by all forks, default ${java.io.tmpdir}/testcontainers-port-locks
+ *
+ * Ports are only predictable within the range: prefer dynamic mapping (getMappedPort) unless a tool really
+ * needs a port that is known before the container starts.
+ */
+public final class HostPortAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(HostPortAllocator.class);
+
+    // Lock files held by this JVM; FileChannel.tryLock throws instead of returning null for these
+    private static final Set<Path> HELD_LOCKS = ConcurrentHashMap.newKeySet();
+
+    private final int fromPort;
+    private final int toPort;
+    private final Path lockDirectory;
+
+    private HostPortAllocator(int fromPort, int toPort, Path lockDirectory) {
+        if (fromPort < 1 || toPort > 65535 || fromPort > toPort) {
+            throw new IllegalArgumentException("Invalid port range " + fromPort + "-" + toPort);
+        }
+        this.fromPort = fromPort;
+        this.toPort = toPort;
+        // One spelling per directory, so HELD_LOCKS sees the same lock file however the caller wrote it
+        this.lockDirectory = lockDirectory.toAbsolutePath().normalize();
+    }
+
+    // Allocator configured with the port.allocator.* system properties.
+    public static HostPortAllocator fromSystemProperties() {
+        String range = System.getProperty("port.allocator.range", "15000-15999");
+        String[] bounds = range.split("-");
+        if (bounds.length != 2) {
+            throw new IllegalArgumentException("port.allocator.range must look like 15000-15999, was " + range);
+        }
+        return forRange(Integer.parseInt(bounds[0].strip()), Integer.parseInt(bounds[1].strip()))
+                .withLockDirectory(Paths.get(System.getProperty("port.allocator.dir",
+                        Paths.get(System.getProperty("java.io.tmpdir"), "testcontainers-port-locks").toString())));
+    }
+
+    public static HostPortAllocator forRange(int fromPort, int toPort) {
+        return new HostPortAllocator(fromPort, toPort,
+                Paths.get(System.getProperty("java.io.tmpdir"), "testcontainers-port-locks"));
+    }
+
+    public HostPortAllocator withLockDirectory(Path lockDirectory) {
+        return new HostPortAllocator(fromPort, toPort, lockDirectory);
+    }
+
+    // Reserves the first free port of the range.
+    public PortReservation reserve() {
+        return reserve(fromPort);
+    }
+
+    // Reserves preferredPort if it is free, otherwise the next free port of the range (wrapping around).
+    public PortReservation reserve(int preferredPort) {
+        if (preferredPort < fromPort || preferredPort > toPort) {
+            throw new IllegalArgumentException("Port " + preferredPort + " is outside " + fromPort + "-" + toPort);
+        }
+        try {
+            // createDirectories rejects a symlink to a directory, so only create what is missing
+            if (!Files.isDirectory(lockDirectory)) {
+                Files.createDirectories(lockDirectory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create port lock directory " + lockDirectory, e);
+        }
+        int size = toPort - fromPort + 1;
+        for (int i = 0; i < size; i++) {
+            int port = fromPort + (preferredPort - fromPort + i) % size;
+            PortReservation reservation = tryReserve(port);
+            if (reservation != null) {
+                logger.debug("Reserved host port {} (lock {})", port, reservation.lockFile);
+                return reservation;
+            }
+        }
+        throw new IllegalStateException("No free host port in " + fromPort + "-" + toPort
+                + " (locks in " + lockDirectory + ")");
+    }
+
+    private PortReservation tryReserve(int port) {
+        Path lockFile = lockDirectory.resolve("port-" + port + ".lock");
+        if (!HELD_LOCKS.add(lockFile)) {
+            return null;
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null && isBindable(port)) {
+                return new PortReservation(port, lockFile, channel, lock);
+            }
+        } catch (IOException e) {
+            logger.debug("Cannot lock {}: {}", lockFile, e.getMessage());
+        } catch (OverlappingFileLockException e) {
+            // Held by this JVM under another path to the same file, e.g. through a symlink
+            logger.debug("Lock {} is already held by this JVM", lockFile);
+        }
+        closeQuietly(channel);
+        HELD_LOCKS.remove(lockFile);
+        return null;
+    }
+
+    // Catches ports bound by processes that do not use the allocator
+    private static boolean isBindable(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.setReuseAddress(false);
+            socket.bind(new InetSocketAddress(port));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close port lock channel", e);
+            }
+        }
+    }
+
+    /*
+     * A reserved host port. Closing it releases the lock, so close it after the container has stopped,
+     * e.g. by declaring it first in the same try-with-resources statement.
+     */
+    public static final class PortReservation implements AutoCloseable {
+
+        private final int port;
+        private final Path lockFile;
+        private final FileChannel channel;
+        private final FileLock lock;
+
+        private PortReservation(int port, Path lockFile, FileChannel channel, FileLock lock) {
+            this.port = port;
+            this.lockFile = lockFile;
+            this.channel = channel;
+            this.lock = lock;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        // Binds containerPort to the reserved host port, keeping any other port bindings of the container.
+        public <T extends GenericContainer<?>> T applyTo(T container, int containerPort) {
+            container.addExposedPort(containerPort);
+            container.withCreateContainerCmdModifier(cmd -> {
+                HostConfig hostConfig = cmd.getHostConfig();
+                Ports ports = hostConfig.getPortBindings() == null ? new Ports() : hostConfig.getPortBindings();
+                ports.bind(ExposedPort.tcp(containerPort), Ports.Binding.bindPort(port));
+                hostConfig.withPortBindings(ports);
+            });
+            return container;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (lock.isValid()) {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                logger.debug("Failed to release {}", lockFile, e);
+            } finally {
+                closeQuietly(channel);
+                HELD_LOCKS.remove(lockFile);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "PortReservation[" + port + "]";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.portmapping;
+
+import com.example.portmapping.HostPortAllocator.PortReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * Exercises the allocator on a free range of the local machine, no Docker needed.
+ */
+public class HostPortAllocatorTest {
+
+    @TempDir
+    Path lockDirectory;
+
+    private HostPortAllocator allocator;
+    private int fromPort;
+
+    @BeforeEach
+    void createAllocator() throws Exception {
+        // Start from an ephemeral port the OS just handed out, so the range is very likely free
+        try (ServerSocket socket = new ServerSocket(0)) {
+            fromPort = Math.min(socket.getLocalPort(), 65000);
+        }
+        allocator = HostPortAllocator.forRange(fromPort, fromPort + 4).withLockDirectory(lockDirectory);
+    }
+
+    @Test
+    void reservationsGetDistinctPortsAndAreReleasedOnClose() {
+        int first;
+        try (PortReservation a = allocator.reserve(); PortReservation b = allocator.reserve()) {
+            first = a.getPort();
+            assertNotEquals(a.getPort(), b.getPort());
+        }
+        try (PortReservation again = allocator.reserve()) {
+            assertEquals(first, again.getPort());
+        }
+    }
+
+    @Test
+    void allocatorsSharingALockDirectoryDoNotHandOutTheSamePort() {
+        HostPortAllocator other = HostPortAllocator.forRange(fromPort, fromPort + 4).withLockDirectory(lockDirectory);
+
+        try (PortReservation a = allocator.reserve(); PortReservation b = other.reserve()) {
+            assertNotEquals(a.getPort(), b.getPort());
+        }
+    }
+
+    @Test
+    void lockDirectorySpelledDifferentlyIsStillShared() {
+        HostPortAllocator other = HostPortAllocator.forRange(fromPort, fromPort + 4)
+                .withLockDirectory(lockDirectory.resolve("sub").resolve(".."));
+
+        try (PortReservation a = allocator.reserve(); PortReservation b = other.reserve()) {
+            assertNotEquals(a.getPort(), b.getPort());
+        }
+    }
+
+    @Test
+    void lockHeldThroughASymlinkCountsAsTaken(@TempDir Path linkParent) throws Exception {
+        Path link = Files.createSymbolicLink(linkParent.resolve("locks"), lockDirectory);
+        HostPortAllocator other = HostPortAllocator.forRange(fromPort, fromPort + 4).withLockDirectory(link);
+
+        try (PortReservation a = allocator.reserve(); PortReservation b = other.reserve()) {
+            assertNotEquals(a.getPort(), b.getPort());
+        }
+    }
+
+    @Test
+    void skipsPortsBoundByOtherProcesses() throws Exception {
+        try (ServerSocket occupied = new ServerSocket()) {
+            occupied.bind(new InetSocketAddress(fromPort + 2));
+
+            try (PortReservation reservation = allocator.reserve(fromPort + 2)) {
+                assertNotEquals(fromPort + 2, reservation.getPort());
+            }
+        }
+    }
+
+    @Test
+    void failsWhenTheRangeIsExhausted() {
+        HostPortAllocator single = HostPortAllocator.forRange(fromPort, fromPort).withLockDirectory(lockDirectory);
+
+        try (PortReservation only = single.reserve()) {
+            assertEquals(fromPort, only.getPort());
+            assertThrows(IllegalStateException.class, single::reserve);
+        }
+    }
+}
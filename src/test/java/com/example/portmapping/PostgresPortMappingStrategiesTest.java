@@ -1,9 +1,11 @@
 package com.example.portmapping;
 
+import com.example.parallel.ContainerLocks;
 import com.github.dockerjava.api.model.ExposedPort;
 import com.github.dockerjava.api.model.PortBinding;
 import com.github.dockerjava.api.model.Ports;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.GenericContainer;
@@ -11,7 +13,11 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 @Testcontainers
+// Binds host port 15432, so never runs alongside the other fixed-port classes
+@ResourceLock(ContainerLocks.HOST_PORT_15432)
 public class PostgresPortMappingStrategiesTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PostgresPortMappingStrategiesTest.class);
@@ -85,6 +91,25 @@ public class PostgresPortMappingStrategiesTest {
         }
     }
 
+    // 4. Fixed Port Mapping with a port reserved by HostPortAllocator (safe across parallel forks)
+    @Test
+    void allocatedFixedPortMapping() {
+        // The reservation is declared first, so it is released after the container has stopped
+        try (HostPortAllocator.PortReservation reservation = HostPortAllocator.fromSystemProperties().reserve();
+             PostgreSQLContainer<?> postgres = reservation.applyTo(new PostgreSQLContainer<>("postgres:15")
+                     .withDatabaseName("testdb")
+                     .withUsername("testuser")
+                     .withPassword("testpass"), POSTGRES_PORT)) {
+
+            postgres.start();
+
+            logger.info("\n=== FIXED PORT MAPPING (HostPortAllocator) ===");
+            logger.info("Reserved host port {} → Container port {}", reservation.getPort(), POSTGRES_PORT);
+            assertEquals(reservation.getPort(), postgres.getMappedPort(POSTGRES_PORT));
+            logConnectionDetails(postgres);
+        }
+    }
+
     // Helper method to log PostgreSQLContainer info
     private void logConnectionDetails(PostgreSQLContainer<?> postgres) {
         logger.info("Container ID: {}", postgres.getContainerId());
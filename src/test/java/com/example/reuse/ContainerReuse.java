@@ -0,0 +1,216 @@
+package com.example.reuse;
+
+import com.example.datasource.DatabaseReset;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.Container;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.ContainerCopies;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.Checksum;
+
+/*
+ * Opt-in reuse of containers across JVM runs, keyed by a hash of their configuration.
+ *
+ * The hash covers the image, env, command, database settings and the contents of bind-mounted files and of
+ * files copied with withCopyFileToContainer or withCopyToContainer, and is stored as the label
+ * com.example.reuse.hash. Because labels are part of the create request, Testcontainers' own reuse lookup
+ * then only attaches to a running container that was created from exactly this configuration; editing an
+ * init script yields a new hash and a fresh container.
+ *
+ * Reuse only happens when the developer enabled it for their machine, either with
+ * testcontainers.reuse.enable=true in ~/.testcontainers.properties or TESTCONTAINERS_REUSE_ENABLE=true.
+ * Otherwise containers start and stop as usual, which keeps CI unaffected. Reused containers are not
+ * removed by Ryuk; stop them with "docker rm -f $(docker ps -q --filter label=com.example.reuse.hash)".
+ *
+ * A reused container keeps every row written by earlier runs. start(container) therefore suits classes
+ * that only read the state created by the init scripts, like the filecopyandbind tests; classes that write
+ * pass a DatabaseReset to start(container, reset), which runs it whenever a container was reused.
+ *
+ * Reuse does not work with @Container fields, because the JUnit extension stops them after the class:
+ * start the container through this class instead.
+ */
+public final class ContainerReuse {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContainerReuse.class);
+
+    public static final String HASH_LABEL = "com.example.reuse.hash";
+
+    private ContainerReuse() {
+    }
+
+    // True when the local Testcontainers configuration allows reusable containers.
+    public static boolean isEnabled() {
+        return TestcontainersConfiguration.getInstance().environmentSupportsReuse();
+    }
+
+    // Starts the container, attaching to a matching running one when reuse is enabled.
+    // Returns true when an existing container was reused.
+    public static boolean start(GenericContainer<?> container) {
+        if (!isEnabled()) {
+            container.start();
+            return false;
+        }
+        String hash = hash(container);
+        container.withLabel(HASH_LABEL, hash).withReuse(true);
+        boolean reused = isRunning(hash);
+
+        long startTime = System.currentTimeMillis();
+        container.start();
+        logger.info("{} container {} ({}) in {} ms", reused ? "Reused" : "Created", hash,
+                container.getDockerImageName(), System.currentTimeMillis() - startTime);
+        return reused;
+    }
+
+    // Like start(container), and brings a reused database back to an empty state with the given reset.
+    public static boolean start(JdbcDatabaseContainer<?> container, DatabaseReset reset) {
+        boolean reused = start(container);
+        if (reused) {
+            try {
+                reset.reset(container);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to reset reused container " + container.getContainerId(), e);
+            }
+        }
+        return reused;
+    }
+
+    // Stops the container unless it is meant to outlive this JVM.
+    public static void stopUnlessReused(GenericContainer<?> container) {
+        if (!container.isShouldBeReused() || !isEnabled()) {
+            container.stop();
+        }
+    }
+
+    // Resolves the image name, which pulls the image if needed; start() would do that anyway
+    static String hash(GenericContainer<?> container) {
+        return hash(container, container.getDockerImageName());
+    }
+
+    static String hash(GenericContainer<?> container, String imageName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, imageName);
+            update(digest, container.getClass().getName());
+            update(digest, new TreeMap<>(container.getEnvMap()).toString());
+            update(digest, Arrays.toString(container.getCommandParts()));
+            update(digest, container.getExposedPorts().toString());
+            if (container.getTmpFsMapping() != null) {
+                update(digest, new TreeMap<>(container.getTmpFsMapping()).toString());
+            }
+
+            Map<String, String> labels = new TreeMap<>(container.getLabels());
+            labels.remove(HASH_LABEL);
+            update(digest, labels.toString());
+
+            if (container instanceof JdbcDatabaseContainer<?> jdbc) {
+                // Applied to the env only in configure(), so hash them explicitly
+                update(digest, jdbc.getDatabaseName());
+                update(digest, jdbc.getUsername());
+                update(digest, jdbc.getPassword());
+            }
+
+            Map<String, Transferable> copies = new TreeMap<>();
+            copiedFiles(container).forEach((file, target) -> copies.put(target, file));
+            ContainerCopies.transferables(container).forEach((content, target) -> copies.put(target, content));
+            for (Map.Entry<String, Transferable> copy : copies.entrySet()) {
+                update(digest, copy.getKey());
+                if (copy.getValue() instanceof MountableFile file) {
+                    updateWithContents(digest, Paths.get(file.getResolvedPath()));
+                } else {
+                    copy.getValue().updateChecksum(digesting(digest));
+                }
+            }
+
+            List<Bind> binds = container.getBinds().stream()
+                    .sorted((a, b) -> a.getVolume().getPath().compareTo(b.getVolume().getPath()))
+                    .toList();
+            for (Bind bind : binds) {
+                update(digest, bind.getVolume().getPath() + ":" + bind.getAccessMode());
+                updateWithContents(digest, Paths.get(bind.getPath()));
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean isRunning(String hash) {
+        List<Container> matches = DockerClientFactory.lazyClient().listContainersCmd()
+                .withLabelFilter(Map.of(HASH_LABEL, hash))
+                .withStatusFilter(List.of("running"))
+                .exec();
+        return !matches.isEmpty();
+    }
+
+    private static void updateWithContents(MessageDigest digest, Path path) {
+        if (!Files.exists(path)) {
+            update(digest, "missing:" + path);
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                update(digest, path.relativize(file).toString());
+                digest.update(Files.readAllBytes(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to hash " + path, e);
+        }
+    }
+
+    // withCopyFileToContainer itself is not deprecated, only the getter of the map it fills
+    @SuppressWarnings("deprecation")
+    private static Map<MountableFile, String> copiedFiles(GenericContainer<?> container) {
+        return container.getCopyToFileContainerPathMap();
+    }
+
+    // Lets a Transferable feed its content into the digest through its own updateChecksum
+    private static Checksum digesting(MessageDigest digest) {
+        return new Checksum() {
+            @Override
+            public void update(int b) {
+                digest.update((byte) b);
+            }
+
+            @Override
+            public void update(byte[] b, int off, int len) {
+                digest.update(b, off, len);
+            }
+
+            @Override
+            public long getValue() {
+                return 0;
+            }
+
+            @Override
+            public void reset() {
+            }
+        };
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.reuse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.BindMode;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/*
+ * The configuration hash is computed without Docker, so these run anywhere.
+ * The image name is passed in because resolving it from the container would pull the image.
+ */
+public class ContainerReuseTest {
+
+    @Test
+    void sameConfigurationGivesSameHash() {
+        assertEquals(hash(postgres()), hash(postgres()));
+    }
+
+    @Test
+    void envAndDatabaseSettingsChangeTheHash() {
+        String base = hash(postgres());
+
+        assertNotEquals(base, hash(postgres().withEnv("TZ", "UTC")));
+        assertNotEquals(base, hash(postgres().withDatabaseName("otherdb")));
+    }
+
+    @Test
+    void boundFileContentChangesTheHash(@TempDir Path dir) throws Exception {
+        Path script = dir.resolve("schema.sql");
+        Files.writeString(script, "CREATE TABLE a (id INT);");
+        GenericContainer<?> first = new GenericContainer<>("redis:7-alpine")
+                .withFileSystemBind(script.toString(), "/data/schema.sql", BindMode.READ_ONLY);
+        String before = hash(first);
+
+        Files.writeString(script, "CREATE TABLE b (id INT);");
+        GenericContainer<?> second = new GenericContainer<>("redis:7-alpine")
+                .withFileSystemBind(script.toString(), "/data/schema.sql", BindMode.READ_ONLY);
+
+        assertNotEquals(before, hash(second));
+    }
+
+    @Test
+    void copiedFileContentIsHashed(@TempDir Path dir) throws Exception {
+        Path script = dir.resolve("data.sql");
+        Files.writeString(script, "INSERT INTO a VALUES (1);");
+        String before = hash(postgres()
+                .withCopyToContainer(MountableFile.forHostPath(script), "/docker-entrypoint-initdb.d/02-data.sql"));
+
+        Files.writeString(script, "INSERT INTO a VALUES (2);");
+        String after = hash(postgres()
+                .withCopyToContainer(MountableFile.forHostPath(script), "/docker-entrypoint-initdb.d/02-data.sql"));
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void fileCopiedWithCopyFileToContainerIsHashed(@TempDir Path dir) throws Exception {
+        Path script = dir.resolve("data.sql");
+        Files.writeString(script, "INSERT INTO a VALUES (1);");
+        String before = hash(postgres()
+                .withCopyFileToContainer(MountableFile.forHostPath(script), "/docker-entrypoint-initdb.d/02-data.sql"));
+
+        Files.writeString(script, "INSERT INTO a VALUES (2);");
+        String after = hash(postgres()
+                .withCopyFileToContainer(MountableFile.forHostPath(script), "/docker-entrypoint-initdb.d/02-data.sql"));
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void copiedInMemoryContentIsHashed() {
+        String before = hash(postgres().withCopyToContainer(Transferable.of("INSERT INTO a VALUES (1);"),
+                "/docker-entrypoint-initdb.d/02-data.sql"));
+        String after = hash(postgres().withCopyToContainer(Transferable.of("INSERT INTO a VALUES (2);"),
+                "/docker-entrypoint-initdb.d/02-data.sql"));
+
+        assertNotEquals(before, after);
+    }
+
+    private static String hash(GenericContainer<?> container) {
+        return ContainerReuse.hash(container, "postgres:16-alpine");
+    }
+
+    private static PostgreSQLContainer<?> postgres() {
+        return new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("testdb")
+                .withCopyToContainer(MountableFile.forClasspathResource("postgres/schema.sql"),
+                        "/docker-entrypoint-initdb.d/01-schema.sql");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.seeding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Merges consecutive single-row INSERTs into one multi-row INSERT.
+ *
+ * Dump files and generated seed scripts usually hold one {@code INSERT INTO t (a, b) VALUES (...)} per row; sent
+ * one by one, even in a JDBC batch, MySQL parses and commits each separately. Statements with the same table and
+ * column list are joined into {@code INSERT INTO t (a, b) VALUES (...), (...), ...} of at most
+ * {@link #maxRows} rows and {@link #MAX_STATEMENT_CHARS} characters, which stays well below the default
+ * {@code max_allowed_packet}. Anything else, including INSERTs with {@code ON DUPLICATE KEY UPDATE} or
+ * {@code SELECT}, passes through unchanged and in order.
+ */
+public final class MultiRowInsertRewriter {
+
+    static final int MAX_STATEMENT_CHARS = 1024 * 1024;
+
+    private static final Pattern SINGLE_ROW_INSERT = Pattern.compile(
+            "(?is)^(INSERT\\s+INTO\\s+[\\w.`\"]+\\s*(?:\\([^)]*\\))?\\s*VALUES)\\s*(\\(.*\\))$");
+
+    private final int maxRows;
+    private final StringBuilder pending = new StringBuilder();
+    private String pendingPrefix;
+    private int pendingRows;
+
+    public MultiRowInsertRewriter(int maxRows) {
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("maxRows must be positive: " + maxRows);
+        }
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Offers the next statement of the script.
+     * @return Statements ready to run, in script order; empty while rows are being collected
+     */
+    public List<String> offer(String statement) {
+        List<String> ready = new ArrayList<>(2);
+        Matcher matcher = SINGLE_ROW_INSERT.matcher(statement);
+        if (!matcher.matches() || !isSingleRow(matcher.group(2))
+                || statement.toUpperCase(Locale.ROOT).contains("ON DUPLICATE KEY")) {
+            drainTo(ready);
+            ready.add(statement);
+            return ready;
+        }
+
+        String prefix = matcher.group(1).replaceAll("\\s+", " ");
+        String row = matcher.group(2);
+        if (pendingRows > 0 && (!prefix.equalsIgnoreCase(pendingPrefix) || pendingRows == maxRows
+                || pending.length() + row.length() + 1 > MAX_STATEMENT_CHARS)) {
+            drainTo(ready);
+        }
+        if (pendingRows == 0) {
+            pendingPrefix = prefix;
+            pending.append(prefix).append(' ').append(row);
+        } else {
+            pending.append(',').append(row);
+        }
+        pendingRows++;
+        return ready;
+    }
+
+    /**
+     * Returns the collected rows as a last statement, if any; call once the script is exhausted.
+     */
+    public List<String> flush() {
+        List<String> ready = new ArrayList<>(1);
+        drainTo(ready);
+        return ready;
+    }
+
+    private void drainTo(List<String> ready) {
+        if (pendingRows > 0) {
+            ready.add(pending.toString());
+            pending.setLength(0);
+            pendingRows = 0;
+            pendingPrefix = null;
+        }
+    }
+
+    // True if the VALUES part is exactly one parenthesized tuple, skipping parentheses inside literals
+    private static boolean isSingleRow(String values) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < values.length(); i++) {
+            char c = values.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0 && i != values.length() - 1) {
+                    return false;
+                }
+            }
+        }
+        return depth == 0 && quote == 0;
+    }
+}
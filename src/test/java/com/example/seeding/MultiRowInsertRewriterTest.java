@@ -0,0 +1,61 @@
+package com.example.seeding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks which statements are merged and that everything else keeps its place in the script.
+ */
+public class MultiRowInsertRewriterTest {
+
+    @Test
+    void shouldMergeConsecutiveInsertsIntoTheSameTable() {
+        List<String> out = rewrite(new MultiRowInsertRewriter(500),
+                "INSERT INTO customers (name, email) VALUES ('a', 'a@x')",
+                "insert into customers (name,  email)  values ('b (2)', 'b@x')",
+                "INSERT INTO customers (name, email)\nVALUES ('c', 'c@x')");
+
+        assertThat(out).containsExactly(
+                "INSERT INTO customers (name, email) VALUES ('a', 'a@x'),('b (2)', 'b@x'),('c', 'c@x')");
+    }
+
+    @Test
+    void shouldSplitAtMaxRows() {
+        List<String> out = rewrite(new MultiRowInsertRewriter(2),
+                "INSERT INTO t (v) VALUES (1)", "INSERT INTO t (v) VALUES (2)", "INSERT INTO t (v) VALUES (3)");
+
+        assertThat(out).containsExactly("INSERT INTO t (v) VALUES (1),(2)", "INSERT INTO t (v) VALUES (3)");
+    }
+
+    @Test
+    void shouldPassOtherStatementsThroughInOrder() {
+        List<String> out = rewrite(new MultiRowInsertRewriter(500),
+                "INSERT INTO t (v) VALUES (1)",
+                "UPDATE t SET v = 2",
+                "INSERT INTO t (v) VALUES (3) ON DUPLICATE KEY UPDATE v = 4",
+                "INSERT INTO t (v) VALUES (5), (6)",
+                "INSERT INTO u (v) VALUES (7)",
+                "INSERT INTO t (v) VALUES (8)");
+
+        assertThat(out).containsExactly(
+                "INSERT INTO t (v) VALUES (1)",
+                "UPDATE t SET v = 2",
+                "INSERT INTO t (v) VALUES (3) ON DUPLICATE KEY UPDATE v = 4",
+                "INSERT INTO t (v) VALUES (5), (6)",
+                "INSERT INTO u (v) VALUES (7)",
+                "INSERT INTO t (v) VALUES (8)");
+    }
+
+    private static List<String> rewrite(MultiRowInsertRewriter rewriter, String... statements) {
+        List<String> out = new ArrayList<>();
+        for (String statement : statements) {
+            out.addAll(rewriter.offer(statement));
+        }
+        out.addAll(rewriter.flush());
+        return out;
+    }
+}
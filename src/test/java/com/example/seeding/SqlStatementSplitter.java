@@ -0,0 +1,179 @@
+package com.example.seeding;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits a SQL script into statements while reading it, holding only the current statement in memory.
+ *
+ * Statements end at a {@code ;} outside string literals, quoted identifiers and comments. Comments are dropped.
+ * The MySQL flavour also understands backslash escapes and {@code #} comments, and keeps comments starting with
+ * {@code /*!} (version-specific code in dumps) or {@code /*+} (optimizer hints) unchanged, since the server runs
+ * what they contain. The Postgres flavour understands
+ * dollar-quoted bodies ({@code $$ ... $$}, {@code $fn$ ... $fn$}) as used by functions and DO blocks. Client-side
+ * commands such as MySQL's {@code DELIMITER} or psql's {@code \copy} are not supported.
+ */
+public final class SqlStatementSplitter implements AutoCloseable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final boolean mysql;
+    private int peeked = NONE;
+
+    private SqlStatementSplitter(Reader reader, boolean mysql) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 64 * 1024);
+        this.mysql = mysql;
+    }
+
+    public static SqlStatementSplitter forMySql(Reader reader) {
+        return new SqlStatementSplitter(reader, true);
+    }
+
+    public static SqlStatementSplitter forPostgres(Reader reader) {
+        return new SqlStatementSplitter(reader, false);
+    }
+
+    /**
+     * Reads the next statement.
+     * @return Statement without the terminating semicolon, or null at the end of the script
+     */
+    public String next() throws IOException {
+        StringBuilder statement = new StringBuilder();
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '\'' || c == '"' || (mysql && c == '`')) {
+                copyQuoted(statement, (char) c);
+            } else if (c == '-' && peek() == '-' || mysql && c == '#') {
+                skipLine();
+                statement.append(' ');
+            } else if (c == '/' && peek() == '*') {
+                read();
+                if (mysql && (peek() == '!' || peek() == '+')) {
+                    statement.append("/*");
+                    copyBlockComment(statement);
+                } else {
+                    skipBlockComment();
+                    statement.append(' ');
+                }
+            } else if (!mysql && c == '$' && !endsWithIdentifierChar(statement)) {
+                copyDollarQuoted(statement);
+            } else if (c == ';') {
+                String result = statement.toString().strip();
+                if (!result.isEmpty()) {
+                    return result;
+                }
+                statement.setLength(0);
+            } else {
+                statement.append((char) c);
+            }
+        }
+        String result = statement.toString().strip();
+        return result.isEmpty() ? null : result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // 'it''s' style doubling works for every quote; MySQL also escapes with a backslash
+    private void copyQuoted(StringBuilder statement, char quote) throws IOException {
+        statement.append(quote);
+        int c;
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (mysql && c == '\\' && quote != '`') {
+                int escaped = read();
+                if (escaped != -1) {
+                    statement.append((char) escaped);
+                }
+            } else if (c == quote) {
+                if (peek() != quote) {
+                    return;
+                }
+                statement.append((char) read());
+            }
+        }
+    }
+
+    // $tag$ ... $tag$ where tag is empty or an identifier not starting with a digit
+    private void copyDollarQuoted(StringBuilder statement) throws IOException {
+        StringBuilder tag = new StringBuilder("$");
+        int c;
+        while ((c = peek()) != -1 && (Character.isLetter(c) || c == '_' || (tag.length() > 1 && Character.isDigit(c)))) {
+            tag.append((char) read());
+        }
+        if (peek() != '$') {
+            // A positional parameter or an identifier containing '$', not a quote
+            statement.append(tag);
+            return;
+        }
+        tag.append((char) read());
+        statement.append(tag);
+        int bodyStart = statement.length();
+        String closing = tag.toString();
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (c == '$' && statement.length() - bodyStart >= closing.length()
+                    && statement.lastIndexOf(closing) == statement.length() - closing.length()) {
+                return;
+            }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = read()) != -1 && c != '\n') {
+            // skip
+        }
+    }
+
+    private void skipBlockComment() throws IOException {
+        int previous = 0;
+        int c;
+        while ((c = read()) != -1) {
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    private void copyBlockComment(StringBuilder statement) throws IOException {
+        int previous = 0;
+        int c;
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    private static boolean endsWithIdentifierChar(StringBuilder statement) {
+        if (statement.isEmpty()) {
+            return false;
+        }
+        char last = statement.charAt(statement.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+
+    private int read() throws IOException {
+        if (peeked != NONE) {
+            int c = peeked;
+            peeked = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == NONE) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+}
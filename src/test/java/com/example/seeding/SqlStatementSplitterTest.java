@@ -0,0 +1,93 @@
+package com.example.seeding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Splits scripts held in strings; no database involved.
+ */
+public class SqlStatementSplitterTest {
+
+    @Test
+    void shouldSplitOnSemicolonsAndDropComments() throws IOException {
+        String script = """
+                -- PostgreSQL specific schema
+                CREATE TABLE customers (id SERIAL PRIMARY KEY); /* inline; comment */
+                INSERT INTO customers (name) VALUES ('a');;
+                SELECT 1
+                """;
+
+        assertThat(split(SqlStatementSplitter.forPostgres(new StringReader(script)))).containsExactly(
+                "CREATE TABLE customers (id SERIAL PRIMARY KEY)",
+                "INSERT INTO customers (name) VALUES ('a')",
+                "SELECT 1");
+    }
+
+    @Test
+    void shouldKeepSemicolonsInsideLiterals() throws IOException {
+        String script = "INSERT INTO t VALUES ('a;b', 'it''s; fine', \"x;y\");"
+                + "INSERT INTO t VALUES ('-- not a comment');";
+
+        assertThat(split(SqlStatementSplitter.forPostgres(new StringReader(script)))).containsExactly(
+                "INSERT INTO t VALUES ('a;b', 'it''s; fine', \"x;y\")",
+                "INSERT INTO t VALUES ('-- not a comment')");
+    }
+
+    @Test
+    void shouldHonourMySqlEscapesAndHashComments() throws IOException {
+        String script = """
+                # MySQL comment; with a semicolon
+                INSERT INTO `t;x` VALUES ('O\\'Brien; Jr', 'c:\\\\');
+                SELECT 2;
+                """;
+
+        assertThat(split(SqlStatementSplitter.forMySql(new StringReader(script)))).containsExactly(
+                "INSERT INTO `t;x` VALUES ('O\\'Brien; Jr', 'c:\\\\')",
+                "SELECT 2");
+    }
+
+    @Test
+    void shouldKeepMySqlExecutableCommentsAndHints() throws IOException {
+        String script = """
+                /*!40101 SET NAMES utf8mb4 */;
+                /* plain; dropped */ SELECT /*+ MAX_EXECUTION_TIME(1000) */ id FROM t;
+                /*!40000 ALTER TABLE `t` DISABLE KEYS */;
+                """;
+
+        assertThat(split(SqlStatementSplitter.forMySql(new StringReader(script)))).containsExactly(
+                "/*!40101 SET NAMES utf8mb4 */",
+                "SELECT /*+ MAX_EXECUTION_TIME(1000) */ id FROM t",
+                "/*!40000 ALTER TABLE `t` DISABLE KEYS */");
+        assertThat(split(SqlStatementSplitter.forPostgres(new StringReader("SELECT /*+ hint */ 1;"))))
+                .containsExactly("SELECT   1");
+    }
+
+    @Test
+    void shouldKeepPostgresDollarQuotedBodiesTogether() throws IOException {
+        String body = """
+                CREATE FUNCTION touch() RETURNS trigger AS $fn$
+                BEGIN
+                    NEW.created_at := now(); RETURN NEW;
+                END;
+                $fn$ LANGUAGE plpgsql""";
+        String script = body + ";\nDO $$ BEGIN PERFORM 1; END $$;\nSELECT $1";
+
+        assertThat(split(SqlStatementSplitter.forPostgres(new StringReader(script))))
+                .containsExactly(body, "DO $$ BEGIN PERFORM 1; END $$", "SELECT $1");
+    }
+
+    private static List<String> split(SqlStatementSplitter splitter) throws IOException {
+        List<String> statements = new ArrayList<>();
+        String statement;
+        while ((statement = splitter.next()) != null) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.seeding;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import com.example.datasource.PooledDataSources;
+import com.mysql.cj.jdbc.JdbcStatement;
+
+/**
+ * StreamingSqlLoader seeds a database container with large SQL scripts or CSV files.
+ *
+ * Scripts in the init folder run through the container entrypoint, one psql/mysql client round trip per
+ * statement, before the container even reports ready. This loader instead streams the file from the classpath or
+ * disk (gzipped when the name ends in {@code .gz}), splits it with {@link SqlStatementSplitter} as it reads, and
+ * sends the statements in JDBC batches of {@link #withBatchSize(int) batchSize}, committing once per batch. On
+ * MySQL, runs of single-row INSERTs are first merged into multi-row INSERTs by {@link MultiRowInsertRewriter}.
+ * CSV files skip SQL parsing altogether: Postgres receives them through {@code COPY ... FROM STDIN}, MySQL through
+ * {@code LOAD DATA LOCAL INFILE} fed from the stream by Connector/J. MySQL 8 refuses local loads unless the server
+ * runs with {@code local_infile} enabled, e.g. {@code mysql.withCommand("--local-infile=1")}; the loader turns it
+ * on for its own connection on the client side. Unlike Postgres, MySQL reads an unquoted empty field as an empty
+ * string rather than NULL.
+ *
+ * <pre>
+ * LoadResult result = StreamingSqlLoader.forContainer(postgres).loadSql("seed/customers.sql.gz");
+ * logger.info("{} rows/s", result.rowsPerSecond());
+ * </pre>
+ */
+public class StreamingSqlLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingSqlLoader.class);
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int DEFAULT_ROWS_PER_INSERT = 500;
+
+    private enum Dialect { POSTGRES, MYSQL }
+
+    private final JdbcDatabaseContainer<?> container;
+    private final DataSource dataSource;
+    private final Dialect dialect;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int rowsPerInsert = DEFAULT_ROWS_PER_INSERT;
+    private boolean csvHeader = true;
+
+    private StreamingSqlLoader(JdbcDatabaseContainer<?> container, DataSource dataSource, Dialect dialect) {
+        this.container = container;
+        this.dataSource = dataSource;
+        this.dialect = dialect;
+    }
+
+    /**
+     * Loader using the shared connection pool of a started PostgreSQL or MySQL container.
+     */
+    public static StreamingSqlLoader forContainer(JdbcDatabaseContainer<?> container) {
+        String jdbcUrl = container.getJdbcUrl();
+        Dialect dialect;
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            dialect = Dialect.POSTGRES;
+        } else if (jdbcUrl.startsWith("jdbc:mysql:")) {
+            dialect = Dialect.MYSQL;
+        } else {
+            throw new IllegalArgumentException("Unsupported database for streaming loads: " + jdbcUrl);
+        }
+        return new StreamingSqlLoader(container, PooledDataSources.forContainer(container), dialect);
+    }
+
+    /**
+     * Statements sent per JDBC batch and committed together.
+     */
+    public StreamingSqlLoader withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Maximum rows per rewritten multi-row INSERT on MySQL.
+     */
+    public StreamingSqlLoader withRowsPerInsert(int rowsPerInsert) {
+        if (rowsPerInsert < 1) {
+            throw new IllegalArgumentException("rowsPerInsert must be positive: " + rowsPerInsert);
+        }
+        this.rowsPerInsert = rowsPerInsert;
+        return this;
+    }
+
+    /**
+     * Whether CSV files start with a header line, true by default.
+     */
+    public StreamingSqlLoader withCsvHeader(boolean csvHeader) {
+        this.csvHeader = csvHeader;
+        return this;
+    }
+
+    public LoadResult loadSql(String classpathResource) {
+        try (Reader reader = open(classpathResource, openResource(classpathResource))) {
+            return loadSql(classpathResource, reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + classpathResource, e);
+        }
+    }
+
+    public LoadResult loadSql(Path file) {
+        try (Reader reader = open(file.toString(), Files.newInputStream(file))) {
+            return loadSql(file.toString(), reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    /**
+     * Copies a CSV file into a table with COPY FROM STDIN on Postgres and LOAD DATA LOCAL INFILE on MySQL.
+     * @param table Table name, optionally followed by a column list like {@code customers (name, email)}
+     */
+    public LoadResult copyCsv(String table, String classpathResource) {
+        try (InputStream in = inflate(classpathResource, openResource(classpathResource))) {
+            return copyCsv(table, classpathResource, in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + classpathResource, e);
+        }
+    }
+
+    public LoadResult copyCsv(String table, Path file) {
+        try (InputStream in = inflate(file.toString(), Files.newInputStream(file))) {
+            return copyCsv(table, file.toString(), in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    private LoadResult loadSql(String source, Reader reader) throws IOException {
+        long start = System.nanoTime();
+        long statements = 0;
+        long rows = 0;
+        SqlStatementSplitter splitter = dialect == Dialect.MYSQL
+                ? SqlStatementSplitter.forMySql(reader)
+                : SqlStatementSplitter.forPostgres(reader);
+        MultiRowInsertRewriter rewriter = dialect == Dialect.MYSQL ? new MultiRowInsertRewriter(rowsPerInsert) : null;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                int batched = 0;
+                String sql;
+                while ((sql = splitter.next()) != null) {
+                    statements++;
+                    for (String ready : rewriter == null ? List.of(sql) : rewriter.offer(sql)) {
+                        statement.addBatch(ready);
+                        if (++batched == batchSize) {
+                            rows += executeBatch(connection, statement);
+                            batched = 0;
+                        }
+                    }
+                }
+                if (rewriter != null) {
+                    for (String ready : rewriter.flush()) {
+                        statement.addBatch(ready);
+                        batched++;
+                    }
+                }
+                if (batched > 0) {
+                    rows += executeBatch(connection, statement);
+                }
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Loading " + source + " failed after " + statements + " statements", e);
+        }
+
+        return report(new LoadResult(source, statements, rows, Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    private LoadResult copyCsv(String table, String source, InputStream csv) throws IOException {
+        long start = System.nanoTime();
+        long rows;
+        try {
+            rows = dialect == Dialect.MYSQL ? loadDataLocal(table, csv) : copyIn(table, csv);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Copying " + source + " into " + table + " failed", e);
+        }
+
+        return report(new LoadResult(source, 1, rows, Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    private long copyIn(String table, InputStream csv) throws SQLException, IOException {
+        String copy = "COPY " + table + " FROM STDIN WITH (FORMAT csv, HEADER " + csvHeader + ")";
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, reader(csv));
+        }
+    }
+
+    // Pooled connections are opened without allowLoadLocalInfile, so the load gets a connection of its own
+    private long loadDataLocal(String table, InputStream csv) throws SQLException {
+        int columnsStart = table.indexOf('(');
+        String tableName = columnsStart < 0 ? table.strip() : table.substring(0, columnsStart).strip();
+        String columns = columnsStart < 0 ? "" : " " + table.substring(columnsStart).strip();
+        // The file name is ignored once an input stream is set; ESCAPED BY '' leaves backslashes alone, as in CSV
+        String load = "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + tableName + " CHARACTER SET utf8mb4"
+                + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                + " LINES TERMINATED BY '\\n'" + (csvHeader ? " IGNORE 1 LINES" : "") + columns;
+
+        Properties properties = new Properties();
+        properties.setProperty("user", container.getUsername());
+        properties.setProperty("password", container.getPassword());
+        properties.setProperty("allowLoadLocalInfile", "true");
+        try (Connection connection = DriverManager.getConnection(container.getJdbcUrl(), properties);
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT @@GLOBAL.local_infile")) {
+                if (rs.next() && !rs.getBoolean(1)) {
+                    throw new IllegalStateException("The MySQL server has local_infile disabled; start it with "
+                            + "withCommand(\"--local-infile=1\") to load CSV files");
+                }
+            }
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(csv);
+            return statement.executeLargeUpdate(load);
+        }
+    }
+
+    private static long executeBatch(Connection connection, Statement statement) throws SQLException {
+        long rows = 0;
+        for (int count : statement.executeBatch()) {
+            // DDL reports 0 and some drivers report SUCCESS_NO_INFO (-2); only real counts are rows
+            if (count > 0) {
+                rows += count;
+            }
+        }
+        connection.commit();
+        return rows;
+    }
+
+    private LoadResult report(LoadResult result) {
+        logger.info("Loaded {} rows from '{}' with {} statements in {} ms ({} rows/s)", result.rows(),
+                result.source(), result.statements(), result.took().toMillis(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    private InputStream openResource(String classpathResource) {
+        InputStream in = StreamingSqlLoader.class.getClassLoader().getResourceAsStream(classpathResource);
+        if (in == null) {
+            throw new IllegalArgumentException("Classpath resource not found: " + classpathResource);
+        }
+        return in;
+    }
+
+    private static Reader open(String name, InputStream in) throws IOException {
+        return reader(inflate(name, in));
+    }
+
+    private static InputStream inflate(String name, InputStream in) throws IOException {
+        return name.endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static Reader reader(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * Outcome of one load; {@code statements} counts statements as written in the script, before any rewriting.
+     */
+    public record LoadResult(String source, long statements, long rows, Duration took) {
+
+        public double rowsPerSecond() {
+            long millis = Math.max(1, took.toMillis());
+            return rows * 1000.0 / millis;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.seeding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.datasource.PooledDataSources;
+
+/**
+ * Generates seed files with {@value #ROWS} rows and streams them into fresh Postgres and MySQL containers,
+ * creating the schemas with the same loader.
+ */
+@Testcontainers
+public class StreamingSqlLoaderTest {
+
+    private static final int ROWS = 100_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // LOAD DATA LOCAL INFILE needs local_infile on the server, which MySQL 8 disables by default
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--local-infile=1");
+
+    @TempDir
+    static Path seedDir;
+
+    @AfterAll
+    static void closeDataSources() {
+        PooledDataSources.close(postgres);
+        PooledDataSources.close(mysql);
+    }
+
+    @Test
+    void shouldCopyCsvIntoPostgres() throws Exception {
+        Path csv = seedDir.resolve("customers.csv.gz");
+        try (Writer out = gzipWriter(csv)) {
+            out.write("name,email\n");
+            for (int i = 0; i < ROWS; i++) {
+                out.write("\"Customer, " + i + "\",pg" + i + "@example.com\n");
+            }
+        }
+        StreamingSqlLoader loader = StreamingSqlLoader.forContainer(postgres);
+        loader.loadSql("postgres/schema.sql");
+
+        StreamingSqlLoader.LoadResult result = loader.copyCsv("customers (name, email)", csv);
+
+        assertEquals(ROWS, result.rows());
+        assertEquals(ROWS, count(postgres, "customers"));
+    }
+
+    @Test
+    void shouldLoadRewrittenInsertsIntoMySql() throws Exception {
+        Path sql = seedDir.resolve("customers.sql");
+        try (Writer out = Files.newBufferedWriter(sql)) {
+            out.write("-- one INSERT per row, as written by most dump tools\n");
+            for (int i = 0; i < ROWS; i++) {
+                out.write("INSERT INTO customers (name, email) VALUES ('O\\'Customer; " + i + "', 'my" + i
+                        + "@example.com');\n");
+            }
+        }
+        StreamingSqlLoader loader = StreamingSqlLoader.forContainer(mysql);
+        loader.loadSql("mysql/schema.sql");
+
+        StreamingSqlLoader.LoadResult result = loader.loadSql(sql);
+
+        assertEquals(ROWS, result.statements());
+        assertEquals(ROWS, result.rows());
+        assertEquals(ROWS, count(mysql, "customers"));
+    }
+
+    @Test
+    void shouldLoadCsvIntoMySql() throws Exception {
+        Path schema = seedDir.resolve("contacts.sql");
+        Files.writeString(schema, "CREATE TABLE contacts (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(100), "
+                + "email VARCHAR(100));\n");
+        Path csv = seedDir.resolve("contacts.csv.gz");
+        try (Writer out = gzipWriter(csv)) {
+            out.write("name,email\n");
+            for (int i = 0; i < ROWS; i++) {
+                out.write("\"Contact, \"\"" + i + "\"\"\",my" + i + "@example.com\n");
+            }
+        }
+        StreamingSqlLoader loader = StreamingSqlLoader.forContainer(mysql);
+        loader.loadSql(schema);
+
+        StreamingSqlLoader.LoadResult result = loader.copyCsv("contacts (name, email)", csv);
+
+        assertEquals(ROWS, result.rows());
+        assertEquals(ROWS, count(mysql, "contacts"));
+        try (Connection connection = PooledDataSources.forContainer(mysql).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name FROM contacts WHERE email = 'my7@example.com'")) {
+            rs.next();
+            assertEquals("Contact, \"7\"", rs.getString(1));
+        }
+    }
+
+    private static Writer gzipWriter(Path file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                StandardCharsets.UTF_8));
+    }
+
+    private static long count(JdbcDatabaseContainer<?> container, String table) throws Exception {
+        try (Connection connection = PooledDataSources.forContainer(container).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
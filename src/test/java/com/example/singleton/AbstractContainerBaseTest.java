@@ -1,11 +1,19 @@
 package com.example.singleton;
 
+import com.example.datasource.DatabaseReset;
+import com.example.datasource.PooledDataSources;
+import com.example.reuse.ContainerReuse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
-// Base class using Singleton Pattern for MySQL
+import javax.sql.DataSource;
+
+// Base class using Singleton Pattern for MySQL; subclasses share the container and may run in parallel
+// with each other, holding the shared read lock. Classes that write extend AbstractPooledContainerBaseTest
+// instead, which leases each class a container of its own.
+@ReadsSharedMySqlContainer
 public abstract class AbstractContainerBaseTest {
 
     // Logger for this class
@@ -26,14 +34,16 @@ public abstract class AbstractContainerBaseTest {
                 .withPassword("testpass");
 
         logger.info("Static Initializer: Starting MySQL container (this may take a moment)...");
-        MY_SQL_CONTAINER.start(); // Start the container *once*
-        logger.info("Static Initializer: MySQL container started successfully on host: {} and port: {}",
-                MY_SQL_CONTAINER.getHost(), MY_SQL_CONTAINER.getMappedPort(3306));
+        // Start the container *once*; with reuse enabled locally, attach to the one left by the previous run
+        // and truncate its tables so every run starts from the same empty state
+        boolean reused = ContainerReuse.start(MY_SQL_CONTAINER, DatabaseReset.forContainer(MY_SQL_CONTAINER));
+        logger.info("Static Initializer: MySQL container {} on host: {} and port: {}",
+                reused ? "reused" : "started successfully", MY_SQL_CONTAINER.getHost(), MY_SQL_CONTAINER.getMappedPort(3306));
 
         // Ryuk handles cleanup, but a shutdown hook can log explicit stop intention (optional)
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             logger.info(">>> JVM Shutdown Hook: Test suite finished. Ryuk should stop the container shortly.");
-            // No need to call MY_SQL_CONTAINER.stop() here, Ryuk manages it.
+            // No need to call MY_SQL_CONTAINER.stop() here, Ryuk manages it (reusable containers are left running).
         }));
     }
 
@@ -41,4 +51,9 @@ public abstract class AbstractContainerBaseTest {
     protected static String getJdbcUrl() {
         return MY_SQL_CONTAINER.getJdbcUrl();
     }
+
+    // Pooled connections to the shared container, shared by all subclasses
+    protected static DataSource dataSource() {
+        return PooledDataSources.forContainer(MY_SQL_CONTAINER);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.example.singleton;
+
+import com.example.datasource.DatabaseReset;
+import com.example.datasource.PooledDataSources;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Base class leasing a MySQL container per test class from a warm pool, so classes can run in parallel
+public abstract class AbstractPooledContainerBaseTest {
+
+    // Logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(AbstractPooledContainerBaseTest.class);
+
+    // Define the container specification
+    private static final DockerImageName MYSQL_IMAGE = DockerImageName.parse("mysql:8.0");
+
+    // Number of warm containers, override with -Dcontainer.pool.size=N
+    private static final int POOL_SIZE = Integer.getInteger("container.pool.size", 2);
+
+    // Pool shared by every subclass, started once per JVM
+    static final ContainerPool<MySQLContainer<?>> MYSQL_POOL;
+
+    // Container leased by each running test class
+    private static final Map<Class<?>, ContainerPool.Lease<MySQLContainer<?>>> LEASES = new ConcurrentHashMap<>();
+
+    static {
+        // Static initializer block: runs only ONCE per JVM classloading
+        logger.info("Static Initializer: Warming up pool of {} MySQL containers...", POOL_SIZE);
+        MYSQL_POOL = ContainerPool.create(POOL_SIZE,
+                () -> new MySQLContainer<>(MYSQL_IMAGE)
+                        .withDatabaseName("testdb")
+                        .withUsername("testuser")
+                        .withPassword("testpass"),
+                DatabaseReset.truncateMySqlTables());
+    }
+
+    @BeforeAll
+    static void leaseContainer(TestInfo testInfo) {
+        Class<?> testClass = testInfo.getTestClass().orElseThrow();
+        ContainerPool.Lease<MySQLContainer<?>> lease = MYSQL_POOL.lease();
+        LEASES.put(testClass, lease);
+        logger.info("{} leased MySQL container at {}", testClass.getSimpleName(), lease.container().getJdbcUrl());
+    }
+
+    @AfterAll
+    static void returnContainer(TestInfo testInfo) {
+        ContainerPool.Lease<MySQLContainer<?>> lease = LEASES.remove(testInfo.getTestClass().orElseThrow());
+        if (lease != null) {
+            lease.close(); // Truncates all tables and makes the container available again
+        }
+    }
+
+    // Container leased for the current test class
+    protected MySQLContainer<?> container() {
+        return LEASES.get(getClass()).container();
+    }
+
+    // Pooled connections to the leased container
+    protected DataSource dataSource() {
+        return PooledDataSources.forContainer(container());
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.singleton;
+
+import com.example.datasource.DatabaseReset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.lifecycle.Startables;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * ContainerPool keeps a fixed number of pre-started database containers and hands them out with
+ * lease/return semantics. Returned containers are reset with a {@link DatabaseReset} instead of
+ * being restarted, so the startup cost is paid only once per pooled container and JVM.
+ *
+ * If a reset fails the container is discarded and replaced by a freshly started one. If the
+ * replacement does not start either, the pool counts the missing container and the next lease that
+ * finds no idle container starts it instead, failing at once when that start fails again rather
+ * than waiting for a container that will never come back.
+ */
+public final class ContainerPool<C extends JdbcDatabaseContainer<?>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContainerPool.class);
+    private static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(5);
+    private static final long POLL_INTERVAL_MILLIS = 1_000;
+
+    private final Supplier<C> factory;
+    private final DatabaseReset reset;
+    private final BlockingQueue<C> idle;
+    private final AtomicInteger missing = new AtomicInteger();
+    private final int size;
+
+    private ContainerPool(int size, Supplier<C> factory, DatabaseReset reset) {
+        this.size = size;
+        this.factory = factory;
+        this.reset = reset;
+        this.idle = new LinkedBlockingQueue<>(size);
+    }
+
+    /**
+     * Creates the pool and starts all of its containers in parallel.
+     * @param size Number of containers to keep warm
+     * @param factory Creates a new, not yet started container
+     * @param reset Strategy used to clean a container when it is returned
+     * @return ContainerPool instance with all containers running
+     */
+    public static <C extends JdbcDatabaseContainer<?>> ContainerPool<C> create(int size, Supplier<C> factory,
+                                                                            DatabaseReset reset) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, got " + size);
+        }
+        ContainerPool<C> pool = new ContainerPool<>(size, factory, reset);
+
+        long startTime = System.currentTimeMillis();
+        List<C> containers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            containers.add(factory.get());
+        }
+        Startables.deepStart(containers).join();
+        pool.idle.addAll(containers);
+
+        logger.info("Container pool warmed up with {} containers in {} ms",
+                size, System.currentTimeMillis() - startTime);
+        return pool;
+    }
+
+    /**
+     * Leases a container, waiting up to five minutes for one to become available.
+     * @return Lease that must be closed to return the container
+     */
+    public Lease<C> lease() {
+        return lease(DEFAULT_LEASE_TIMEOUT);
+    }
+
+    /**
+     * Leases a container, waiting up to {@code timeout} for one to become available.
+     * @param timeout Maximum time to wait
+     * @return Lease that must be closed to return the container
+     */
+    public Lease<C> lease(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            C container = idle.poll();
+            // Wake up regularly so a container lost by a failed replacement is noticed while waiting
+            while (container == null && (container = replaceMissing()) == null) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new IllegalStateException("No pooled container became available within " + timeout);
+                }
+                container = idle.poll(Math.min(remainingMillis, POLL_INTERVAL_MILLIS), TimeUnit.MILLISECONDS);
+            }
+            logger.debug("Leased container {} ({} idle)", container.getContainerId(), idle.size());
+            return new Lease<>(this, container);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled container", e);
+        }
+    }
+
+    /**
+     * @return Number of containers currently waiting to be leased
+     */
+    public int available() {
+        return idle.size();
+    }
+
+    /**
+     * @return Total number of containers managed by the pool
+     */
+    public int size() {
+        return size;
+    }
+
+    private void giveBack(C container) {
+        long startTime = System.currentTimeMillis();
+        try {
+            reset.reset(container);
+            logger.debug("Reset container {} in {} ms", container.getContainerId(),
+                    System.currentTimeMillis() - startTime);
+            idle.add(container);
+        } catch (Exception e) {
+            logger.warn("Reset of container {} failed, replacing it", container.getContainerId(), e);
+            container.stop();
+            try {
+                idle.add(startReplacement());
+            } catch (RuntimeException startFailure) {
+                missing.incrementAndGet();
+                logger.error("Replacement container failed to start, the next lease will retry", startFailure);
+            }
+        }
+    }
+
+    // Starts a container for a slot lost to a failed replacement; null when no slot is missing
+    private C replaceMissing() {
+        if (missing.getAndUpdate(count -> Math.max(0, count - 1)) == 0) {
+            return null;
+        }
+        try {
+            return startReplacement();
+        } catch (RuntimeException e) {
+            missing.incrementAndGet();
+            throw new IllegalStateException("Pooled container could not be replaced", e);
+        }
+    }
+
+    private C startReplacement() {
+        C replacement = factory.get();
+        try {
+            replacement.start();
+            return replacement;
+        } catch (RuntimeException e) {
+            replacement.stop();
+            throw e;
+        }
+    }
+
+    /**
+     * A leased container. Closing the lease resets the database and returns the container to the pool.
+     */
+    public static final class Lease<C extends JdbcDatabaseContainer<?>> implements AutoCloseable {
+        private final ContainerPool<C> pool;
+        private final C container;
+        private boolean returned;
+
+        private Lease(ContainerPool<C> pool, C container) {
+            this.pool = pool;
+            this.container = container;
+        }
+
+        public C container() {
+            return container;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!returned) {
+                returned = true;
+                pool.giveBack(container);
+            }
+        }
+    }
+}
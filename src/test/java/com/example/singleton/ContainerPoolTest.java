@@ -0,0 +1,104 @@
+package com.example.singleton;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Lease and replacement bookkeeping with containers that only pretend to start, so no Docker is needed.
+ */
+class ContainerPoolTest {
+
+    private final AtomicBoolean resetFails = new AtomicBoolean();
+    private final AtomicBoolean startFails = new AtomicBoolean();
+    private final AtomicInteger created = new AtomicInteger();
+
+    @Test
+    void returnedContainerIsResetAndLeasedAgain() {
+        ContainerPool<FakeContainer> pool = pool();
+
+        FakeContainer first;
+        try (ContainerPool.Lease<FakeContainer> lease = pool.lease()) {
+            first = lease.container();
+            assertEquals(0, pool.available());
+        }
+
+        try (ContainerPool.Lease<FakeContainer> lease = pool.lease()) {
+            assertSame(first, lease.container());
+        }
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void failedReplacementIsRetriedByTheNextLease() {
+        ContainerPool<FakeContainer> pool = pool();
+        FakeContainer first;
+        resetFails.set(true);
+        startFails.set(true);
+        try (ContainerPool.Lease<FakeContainer> lease = pool.lease()) {
+            first = lease.container();
+        }
+        assertEquals(0, pool.available());
+
+        long startTime = System.nanoTime();
+        assertThrows(IllegalStateException.class, () -> pool.lease(Duration.ofMinutes(1)));
+        assertTrue(Duration.ofNanos(System.nanoTime() - startTime).toSeconds() < 5, "Lease should fail fast");
+
+        startFails.set(false);
+        try (ContainerPool.Lease<FakeContainer> lease = pool.lease(Duration.ofSeconds(1))) {
+            assertNotSame(first, lease.container());
+            assertTrue(lease.container().isRunning());
+        }
+    }
+
+    private ContainerPool<FakeContainer> pool() {
+        return ContainerPool.create(1, () -> {
+            created.incrementAndGet();
+            return new FakeContainer(startFails);
+        }, container -> {
+            if (resetFails.get()) {
+                throw new SQLException("reset failed");
+            }
+        });
+    }
+
+    private static final class FakeContainer extends MySQLContainer<FakeContainer> {
+
+        private final AtomicBoolean startFails;
+        private boolean running;
+
+        private FakeContainer(AtomicBoolean startFails) {
+            super(DockerImageName.parse("mysql:8.0"));
+            this.startFails = startFails;
+        }
+
+        @Override
+        public void start() {
+            if (startFails.get()) {
+                throw new IllegalStateException("start failed");
+            }
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+    }
+}
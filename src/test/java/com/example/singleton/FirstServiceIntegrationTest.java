@@ -8,7 +8,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 // Inherits from the base class to use the shared container
@@ -27,10 +26,7 @@ class FirstServiceIntegrationTest extends AbstractContainerBaseTest {
         logger.info(" Running test 'testConnectionToSharedDatabase' in FirstServiceIntegrationTest ");
         Assertions.assertTrue(MY_SQL_CONTAINER.isRunning(), "Container should be running");
 
-        try (Connection connection = DriverManager.getConnection(
-                getJdbcUrl(), // Use inherited method or direct access
-                MY_SQL_CONTAINER.getUsername(),
-                MY_SQL_CONTAINER.getPassword())) {
+        try (Connection connection = dataSource().getConnection()) {
 
             Assertions.assertTrue(connection.isValid(1), "Connection should be valid");
             logger.info("   Successfully connected from FirstServiceIntegrationTest!");
@@ -0,0 +1,39 @@
+package com.example.singleton;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Writes to its own leased database; the pool truncates the tables when the class is done
+class PooledServiceIntegrationTest extends AbstractPooledContainerBaseTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledServiceIntegrationTest.class);
+
+    @Test
+    void testWritesAreIsolatedPerLease() throws SQLException {
+        MySQLContainer<?> mysql = container();
+        Assertions.assertTrue(mysql.isRunning(), "Leased container should be running");
+
+        try (Connection connection = DriverManager.getConnection(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("CREATE TABLE IF NOT EXISTS events (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(50))");
+            stmt.execute("INSERT INTO events (name) VALUES ('pooled')");
+
+            // A previous lease of this container has been truncated, so only our row is visible
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM events");
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(1, rs.getInt(1), "Should only see the row written by this lease");
+            logger.info("   Row written to leased container {}", mysql.getContainerId());
+        }
+    }
+}
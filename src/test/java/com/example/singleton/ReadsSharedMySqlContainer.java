@@ -0,0 +1,21 @@
+package com.example.singleton;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import com.example.parallel.ContainerLocks;
+
+// Shared read access to the singleton MySQL container: readers run in parallel, a class taking the lock
+// in READ_WRITE mode runs alone. Inherited, so every subclass of AbstractContainerBaseTest holds it.
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@ResourceLock(value = ContainerLocks.SINGLETON_MYSQL, mode = ResourceAccessMode.READ)
+public @interface ReadsSharedMySqlContainer {
+}
@@ -1,38 +1,26 @@
 package com.example.singleton;
 
-import com.example.singleton.AbstractContainerBaseTest;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
-// Also inherits from the base class
-class SecondServiceIntegrationTest extends AbstractContainerBaseTest {
+// Also inherits from the pooled base class and may run in parallel with the other pooled classes
+class SecondServiceIntegrationTest extends AbstractPooledContainerBaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(SecondServiceIntegrationTest.class);
 
-    @BeforeAll
-    static void logContainerInfo() {
-        // Log container details once before tests in this class run
-        logger.info("SecondServiceIntegrationTest using container running at JDBC URL: {}", getJdbcUrl());
-    }
-
     @Test
     void testAnotherServiceUsesSameDatabase() {
         logger.info(" Running test in SecondServiceIntegrationTest <<<");
-        Assertions.assertTrue(MY_SQL_CONTAINER.isRunning(), "Container should still be running");
-        logger.debug("   Attempting connection to: {}", getJdbcUrl()); // Example of DEBUG level
+        Assertions.assertTrue(container().isRunning(), "Container should still be running");
+        logger.debug("   Attempting connection to: {}", container().getJdbcUrl()); // Example of DEBUG level
 
         // Verify connection
-        try (Connection connection = DriverManager.getConnection(
-                getJdbcUrl(),
-                MY_SQL_CONTAINER.getUsername(),
-                MY_SQL_CONTAINER.getPassword())) {
+        try (Connection connection = dataSource().getConnection()) {
 
             Assertions.assertTrue(connection.isValid(1), "Connection should be valid");
             logger.info("   Successfully connected from SecondServiceIntegrationTest!");
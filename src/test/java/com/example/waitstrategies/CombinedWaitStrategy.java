@@ -1,11 +1,26 @@
 package com.example.waitstrategies;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
 
@@ -13,6 +28,12 @@ import org.testcontainers.containers.wait.strategy.WaitStrategy;
  * CombinedWaitStrategy allows chaining multiple WaitStrategies and executes them sequentially.
  * It logs the execution time of each strategy, logs failure reasons, and prints the total time taken.
  * If any strategy fails, the execution stops and logs how long it took before failing.
+ *
+ * All strategies share one deadline: each strategy only gets whatever is left of the startup timeout,
+ * so the combined wait never exceeds the configured budget.
+ *
+ * Calling {@link #inParallel()} switches to parallel mode, where independent strategies run
+ * concurrently on a bounded pool. The first failure cancels the checks that are still running.
  */
 public class CombinedWaitStrategy extends AbstractWaitStrategy {
 
@@ -22,6 +43,12 @@ public class CombinedWaitStrategy extends AbstractWaitStrategy {
     // List of WaitStrategies to be executed sequentially
     private final List<WaitStrategy> strategies;
 
+    // Maximum number of strategies running at once; 1 means sequential execution
+    private int parallelism = 1;
+
+    // Time taken by each strategy during the last run, keyed by strategy label
+    private final Map<String, Duration> timings = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to initialize the list of strategies.
      * @param strategies List of WaitStrategy instances
@@ -50,32 +77,64 @@ public class CombinedWaitStrategy extends AbstractWaitStrategy {
     }
 
     /**
-     * Executes all configured WaitStrategies sequentially.
+     * Runs all strategies at the same time against the shared deadline.
+     * @return CombinedWaitStrategy instance
+     */
+    public CombinedWaitStrategy inParallel() {
+        return inParallel(strategies.size());
+    }
+
+    /**
+     * Runs the strategies concurrently, with at most {@code maxConcurrency} of them in flight.
+     * @param maxConcurrency Upper bound on concurrently running strategies
+     * @return CombinedWaitStrategy instance
+     */
+    public CombinedWaitStrategy inParallel(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, got " + maxConcurrency);
+        }
+        this.parallelism = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Returns how long each strategy took during the last run, in declaration order.
+     * Strategies that were cancelled or never finished are not included.
+     * @return Map of strategy label to duration
+     */
+    public Map<String, Duration> getTimings() {
+        Map<String, Duration> ordered = new LinkedHashMap<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            String label = label(i);
+            Duration duration = timings.get(label);
+            if (duration != null) {
+                ordered.put(label, duration);
+            }
+        }
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    /**
+     * Executes all configured WaitStrategies, sequentially or in parallel.
      * Logs time taken by each strategy and total duration.
      * If any strategy fails, logs failure and time until failure.
      */
     @Override
     protected void waitUntilReady() {
         Duration timeoutToUse = (this.startupTimeout != null) ? this.startupTimeout : DEFAULT_TIMEOUT;
-        logger.info("CombinedWaitStrategy started with timeout: {} seconds", timeoutToUse.getSeconds());
+        boolean parallel = parallelism > 1 && strategies.size() > 1;
+        logger.info("CombinedWaitStrategy started with timeout: {} seconds ({})",
+                timeoutToUse.getSeconds(), parallel ? "parallel, max " + parallelism : "sequential");
 
+        timings.clear();
         long overallStart = System.nanoTime();
+        long deadline = overallStart + timeoutToUse.toNanos();
 
         try {
-            for (WaitStrategy strategy : strategies) {
-                long startTime = System.nanoTime();
-
-                // Apply timeout if strategy supports it
-                if (strategy instanceof AbstractWaitStrategy) {
-                    ((AbstractWaitStrategy) strategy).withStartupTimeout(timeoutToUse);
-                }
-
-                logger.info("Executing WaitStrategy: {}", strategy.getClass().getSimpleName());
-                strategy.waitUntilReady(this.waitStrategyTarget);
-
-                long endTime = System.nanoTime();
-                long durationMs = (endTime - startTime) / 1_000_000;
-                logger.info("WaitStrategy {} passed in {} ms", strategy.getClass().getSimpleName(), durationMs);
+            if (parallel) {
+                runInParallel(deadline);
+            } else {
+                runSequentially(deadline);
             }
 
             long overallEnd = System.nanoTime();
@@ -89,4 +148,91 @@ public class CombinedWaitStrategy extends AbstractWaitStrategy {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    private void runSequentially(long deadline) {
+        for (int i = 0; i < strategies.size(); i++) {
+            runStrategy(i, deadline);
+        }
+    }
+
+    private void runInParallel(long deadline) {
+        int poolSize = Math.min(parallelism, strategies.size());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new WaitThreadFactory());
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < strategies.size(); i++) {
+                int index = i;
+                futures.add(completionService.submit(() -> {
+                    runStrategy(index, deadline);
+                    return null;
+                }));
+            }
+
+            for (int completed = 0; completed < futures.size(); completed++) {
+                long remainingNanos = deadline - System.nanoTime();
+                Future<Void> done = completionService.poll(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new ContainerLaunchException("Timed out waiting for "
+                            + (futures.size() - completed) + " of " + futures.size() + " wait strategies");
+                }
+                done.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for parallel wait strategies", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ContainerLaunchException("Wait strategy failed", cause);
+        } finally {
+            // Cancel whatever is still running once one check failed or the deadline passed
+            futures.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private void runStrategy(int index, long deadline) {
+        WaitStrategy strategy = strategies.get(index);
+        String label = label(index);
+        long startTime = System.nanoTime();
+
+        Duration remaining = Duration.ofNanos(deadline - startTime);
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new ContainerLaunchException("No time left in startup budget for " + label);
+        }
+
+        // Apply the remaining budget if strategy supports it
+        if (strategy instanceof AbstractWaitStrategy) {
+            ((AbstractWaitStrategy) strategy).withStartupTimeout(remaining);
+        }
+
+        logger.info("Executing WaitStrategy: {}", label);
+        strategy.waitUntilReady(this.waitStrategyTarget);
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+        timings.put(label, duration);
+        logger.info("WaitStrategy {} passed in {} ms", label, duration.toMillis());
+    }
+
+    private String label(int index) {
+        return "#" + (index + 1) + " " + strategies.get(index).getClass().getSimpleName();
+    }
+
+    /**
+     * Names pool threads after this strategy and marks them as daemons so a hung check cannot block JVM exit.
+     */
+    private static final class WaitThreadFactory implements ThreadFactory {
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "combined-wait-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.waitstrategies;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+
+/**
+ * ElasticsearchFixture holds one pooled client per Elasticsearch container and loads test data in bulk.
+ *
+ * Building a RestClient per test leaks an HTTP connection pool per test; this fixture builds it once per
+ * container and closes it in {@link #close()}. {@link #bulkLoad} streams documents in batches without refreshing,
+ * then refreshes the index once at the end so the data becomes searchable in a single step. The fixture is shared
+ * by every class using the container, possibly in parallel, so it holds no per-caller settings: the batch size is
+ * an argument of the load.
+ *
+ * <pre>
+ * ElasticsearchFixture fixture = ElasticsearchFixture.forContainer(elasticsearch);
+ * BulkLoadResult result = fixture.bulkLoad("products", products.iterator(), Product::id);
+ * logger.info("{} docs/s", result.documentsPerSecond());
+ * </pre>
+ */
+public class ElasticsearchFixture implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElasticsearchFixture.class);
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int MAX_CONNECTIONS = 20;
+
+    private static final Map<String, ElasticsearchFixture> FIXTURES = new ConcurrentHashMap<>();
+
+    private final String containerId;
+    private final RestClient restClient;
+    private final ElasticsearchClient client;
+
+    private ElasticsearchFixture(ElasticsearchContainer container) {
+        this.containerId = container.getContainerId();
+        this.restClient = RestClient.builder(new HttpHost(container.getHost(), container.getMappedPort(9200)))
+                .setHttpClientConfigCallback(http -> http
+                        .setMaxConnTotal(MAX_CONNECTIONS)
+                        .setMaxConnPerRoute(MAX_CONNECTIONS))
+                .build();
+        this.client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+    }
+
+    /**
+     * Returns the fixture of a started container, creating its client on first use.
+     * @param container Running Elasticsearch container
+     * @return ElasticsearchFixture shared by all callers for this container
+     */
+    public static ElasticsearchFixture forContainer(ElasticsearchContainer container) {
+        return FIXTURES.computeIfAbsent(container.getContainerId(), id -> new ElasticsearchFixture(container));
+    }
+
+    /**
+     * Closes the fixture of this container if one was created; unlike {@code forContainer(...).close()} it never
+     * builds a client just to close it. Safe to call more than once.
+     */
+    public static void close(ElasticsearchContainer container) {
+        ElasticsearchFixture fixture = FIXTURES.get(container.getContainerId());
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    public ElasticsearchClient client() {
+        return client;
+    }
+
+    /**
+     * Indexes all documents into {@code index} in bulk requests of 1000 documents, then refreshes once.
+     */
+    public <T> BulkLoadResult bulkLoad(String index, Iterator<T> documents, Function<T, String> idFunction) {
+        return bulkLoad(index, documents, idFunction, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Indexes all documents into {@code index} in bulk requests of {@code batchSize}, then refreshes once.
+     * Documents are pulled from the iterator one batch at a time, so large data sets never sit in memory at once.
+     * @param index Target index, created with dynamic mapping if missing
+     * @param documents Documents to index
+     * @param idFunction Extracts the document id; return null to let Elasticsearch assign one
+     * @param batchSize Documents per bulk request
+     * @return Counts and throughput of the load
+     */
+    public <T> BulkLoadResult bulkLoad(String index, Iterator<T> documents, Function<T, String> idFunction,
+                                       int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        long start = System.nanoTime();
+        long indexed = 0;
+        long failed = 0;
+        int batches = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+
+        try {
+            while (documents.hasNext()) {
+                batch.add(documents.next());
+                if (batch.size() == batchSize || !documents.hasNext()) {
+                    long batchFailures = sendBatch(index, batch, idFunction);
+                    failed += batchFailures;
+                    indexed += batch.size() - batchFailures;
+                    batches++;
+                    batch.clear();
+                }
+            }
+            // Refresh-once: no per-batch refresh, one refresh makes the whole load searchable
+            client.indices().refresh(r -> r.index(index));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Bulk load into " + index + " failed after " + batches + " batches", e);
+        }
+
+        BulkLoadResult result = new BulkLoadResult(index, indexed, failed, batches, Duration.ofNanos(System.nanoTime() - start));
+        logger.info("Bulk loaded {} documents into '{}' in {} batches and {} ms ({} docs/s, {} failed)",
+                result.indexed(), index, batches, result.took().toMillis(), Math.round(result.documentsPerSecond()),
+                failed);
+        return result;
+    }
+
+    private <T> long sendBatch(String index, List<T> batch, Function<T, String> idFunction) throws IOException {
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        for (T document : batch) {
+            request.operations(op -> op.index(idx -> idx.index(index).id(idFunction.apply(document)).document(document)));
+        }
+        BulkResponse response = client.bulk(request.build());
+        if (!response.errors()) {
+            return 0;
+        }
+        long failures = 0;
+        for (BulkResponseItem item : response.items()) {
+            if (item.error() != null) {
+                if (failures == 0) {
+                    logger.warn("Bulk item {} in '{}' failed: {}", item.id(), index, item.error().reason());
+                }
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Closes the HTTP client and forgets this fixture.
+     */
+    @Override
+    public void close() {
+        FIXTURES.remove(containerId, this);
+        try {
+            restClient.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close Elasticsearch client", e);
+        }
+    }
+
+    /**
+     * Outcome of one {@link #bulkLoad} call.
+     */
+    public record BulkLoadResult(String index, long indexed, long failed, int batches, Duration took) {
+
+        public double documentsPerSecond() {
+            long millis = Math.max(1, took.toMillis());
+            return indexed * 1000.0 / millis;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.waitstrategies;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ElasticsearchHealthWaitStrategy waits for yellow cluster health using Elasticsearch's own long-poll,
+ * {@code /_cluster/health?wait_for_status=yellow&timeout=...}, instead of polling for green from the client.
+ *
+ * Green never arrives on a single node once an index has replicas, while yellow means every primary shard is
+ * assigned, which is all a test needs. One request blocks server-side until the status is reached or the poll
+ * window ends, so readiness is reported as soon as the cluster gets there.
+ *
+ * Optionally it also waits for indices (existing and yellow) and index templates to exist. When the cluster is
+ * red and nothing is initializing any more, it stops waiting and fails with the output of
+ * {@code /_cluster/allocation/explain} instead of running into the startup timeout.
+ */
+public class ElasticsearchHealthWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElasticsearchHealthWaitStrategy.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration LONG_POLL = Duration.ofSeconds(10);
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(250);
+    private static final int MAX_DIAGNOSTIC_LENGTH = 2_000;
+
+    private int port = 9200;
+    private String authorization;
+    private final List<String> indices = new ArrayList<>();
+    private final List<String> templates = new ArrayList<>();
+
+    private ElasticsearchHealthWaitStrategy() {
+    }
+
+    /**
+     * Factory method to create a strategy that waits for yellow (or green) cluster health.
+     * @return ElasticsearchHealthWaitStrategy instance
+     */
+    public static ElasticsearchHealthWaitStrategy forYellowCluster() {
+        return new ElasticsearchHealthWaitStrategy();
+    }
+
+    /**
+     * Container port of the HTTP API, 9200 by default.
+     */
+    public ElasticsearchHealthWaitStrategy withPort(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * Sends basic authentication, for images with security enabled.
+     */
+    public ElasticsearchHealthWaitStrategy withBasicCredentials(String username, String password) {
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    /**
+     * Also waits until these indices exist and are at least yellow, e.g. when an init script creates them.
+     */
+    public ElasticsearchHealthWaitStrategy withIndices(String... names) {
+        indices.addAll(List.of(names));
+        return this;
+    }
+
+    /**
+     * Also waits until these composable index templates exist.
+     */
+    public ElasticsearchHealthWaitStrategy withIndexTemplates(String... names) {
+        templates.addAll(List.of(names));
+        return this;
+    }
+
+    @Override
+    public ElasticsearchHealthWaitStrategy withStartupTimeout(Duration startupTimeout) {
+        this.startupTimeout = startupTimeout;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        String baseUrl = "http://" + waitStrategyTarget.getHost() + ":" + waitStrategyTarget.getMappedPort(port);
+        long start = System.nanoTime();
+        long deadline = start + startupTimeout.toNanos();
+
+        awaitYellow(baseUrl, "/_cluster/health", deadline);
+        for (String template : templates) {
+            awaitExists(baseUrl, "/_index_template/" + encode(template), "index template " + template, deadline);
+        }
+        for (String index : indices) {
+            awaitExists(baseUrl, "/" + encode(index), "index " + index, deadline);
+            awaitYellow(baseUrl, "/_cluster/health/" + encode(index), deadline);
+        }
+        logger.info("Elasticsearch at {} ready after {} ms", baseUrl, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private void awaitYellow(String baseUrl, String healthPath, long deadline) {
+        String lastState = "no response";
+        int stuckRedPolls = 0;
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new ContainerLaunchException("Elasticsearch at " + baseUrl + healthPath + " not yellow within "
+                        + startupTimeout.toMillis() + " ms, last state: " + lastState);
+            }
+            long pollSeconds = Math.max(1, Math.min(LONG_POLL.toSeconds(), Duration.ofNanos(remaining).toSeconds()));
+            try {
+                // 200 when the status was reached, 408 when the server-side timeout expired first
+                Response response = get(baseUrl + healthPath + "?wait_for_status=yellow&timeout=" + pollSeconds + "s",
+                        Duration.ofSeconds(pollSeconds + 5));
+                if (response.status() == 401 || response.status() == 403) {
+                    throw new ContainerLaunchException("Elasticsearch rejected the health check with HTTP "
+                            + response.status() + "; configure withBasicCredentials(...)");
+                }
+                if (response.status() != 200 && response.status() != 408) {
+                    lastState = "HTTP " + response.status();
+                    sleep(RETRY_INTERVAL);
+                } else {
+                    JsonNode health = MAPPER.readTree(response.body());
+                    String status = health.path("status").asText();
+                    lastState = status + " (initializing=" + health.path("initializing_shards").asInt()
+                            + ", unassigned=" + health.path("unassigned_shards").asInt() + ")";
+                    if (!health.path("timed_out").asBoolean() && !"red".equals(status)) {
+                        return;
+                    }
+                    // Two polls in a row rule out the short red phase before shard allocation starts
+                    stuckRedPolls = isStuckRed(health) ? stuckRedPolls + 1 : 0;
+                    if (stuckRedPolls >= 2) {
+                        throw new ContainerLaunchException("Elasticsearch cluster is red with unassigned shards and "
+                                + "nothing initializing: " + lastState + "\nAllocation explain: " + explain(baseUrl));
+                    }
+                }
+            } catch (IOException e) {
+                // Connection refused or reset while the node boots
+                lastState = e.getClass().getSimpleName() + ": " + e.getMessage();
+                sleep(RETRY_INTERVAL);
+            }
+            if (!waitStrategyTarget.isRunning()) {
+                throw new ContainerLaunchException("Elasticsearch container stopped while waiting, last state: " + lastState);
+            }
+        }
+    }
+
+    private static boolean isStuckRed(JsonNode health) {
+        return "red".equals(health.path("status").asText())
+                && health.path("initializing_shards").asInt() == 0
+                && health.path("unassigned_shards").asInt() > 0
+                && health.path("delayed_unassigned_shards").asInt() == 0;
+    }
+
+    private void awaitExists(String baseUrl, String path, String description, long deadline) {
+        String lastState = "no response";
+        while (System.nanoTime() < deadline) {
+            try {
+                Response response = get(baseUrl + path, Duration.ofSeconds(5));
+                if (response.status() == 200) {
+                    return;
+                }
+                lastState = "HTTP " + response.status();
+            } catch (IOException e) {
+                lastState = e.getMessage();
+            }
+            sleep(RETRY_INTERVAL);
+        }
+        throw new ContainerLaunchException("Elasticsearch " + description + " did not appear within "
+                + startupTimeout.toMillis() + " ms, last state: " + lastState);
+    }
+
+    private String explain(String baseUrl) {
+        try {
+            String body = get(baseUrl + "/_cluster/allocation/explain", Duration.ofSeconds(5)).body();
+            return body.length() > MAX_DIAGNOSTIC_LENGTH ? body.substring(0, MAX_DIAGNOSTIC_LENGTH) + "..." : body;
+        } catch (IOException e) {
+            return "unavailable (" + e.getMessage() + ")";
+        }
+    }
+
+    private Response get(String url, Duration readTimeout) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(2_000);
+        connection.setReadTimeout((int) readTimeout.toMillis());
+        if (authorization != null) {
+            connection.setRequestProperty("Authorization", authorization);
+        }
+        try {
+            int status = connection.getResponseCode();
+            InputStream stream = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            String body = stream == null ? "" : new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            return new Response(status, body);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String encode(String name) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for Elasticsearch", e);
+        }
+    }
+
+    private record Response(int status, String body) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.waitstrategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the strategy against a fake Elasticsearch HTTP endpoint, no Docker needed.
+ */
+public class ElasticsearchHealthWaitStrategyTest {
+
+    private HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldBeReadyOnYellowWithSingleLongPoll() {
+        respond("/_cluster/health", 200, "{\"status\":\"yellow\",\"timed_out\":false}");
+
+        ElasticsearchHealthWaitStrategy.forYellowCluster().withStartupTimeout(Duration.ofSeconds(30))
+                .waitUntilReady(target());
+
+        assertThat(requests).containsExactly("/_cluster/health?wait_for_status=yellow&timeout=10s");
+    }
+
+    @Test
+    void shouldFailFastWithAllocationExplainWhenClusterStaysRed() {
+        respond("/_cluster/health", 408,
+                "{\"status\":\"red\",\"timed_out\":true,\"initializing_shards\":0,\"unassigned_shards\":2}");
+        respond("/_cluster/allocation/explain", 200, "{\"unassigned_info\":{\"reason\":\"ALLOCATION_FAILED\"}}");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> ElasticsearchHealthWaitStrategy.forYellowCluster()
+                .withStartupTimeout(Duration.ofMinutes(2))
+                .waitUntilReady(target()))
+                .isInstanceOf(ContainerLaunchException.class)
+                .hasMessageContaining("red")
+                .hasMessageContaining("ALLOCATION_FAILED");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldWaitForDeclaredIndexAndTemplate() {
+        respond("/_cluster/health", 200, "{\"status\":\"green\",\"timed_out\":false}");
+        respond("/_index_template/products-template", 200, "{}");
+        AtomicInteger indexChecks = new AtomicInteger();
+        server.createContext("/products", exchange -> {
+            requests.add(exchange.getRequestURI().toString());
+            boolean created = indexChecks.incrementAndGet() > 2;
+            write(exchange, created ? 200 : 404, created ? "{}" : "{\"status\":404}");
+        });
+
+        ElasticsearchHealthWaitStrategy.forYellowCluster()
+                .withIndexTemplates("products-template")
+                .withIndices("products")
+                .withStartupTimeout(Duration.ofSeconds(30))
+                .waitUntilReady(target());
+
+        assertThat(indexChecks.get()).isEqualTo(3);
+        assertThat(requests).contains("/_cluster/health/products?wait_for_status=yellow&timeout=10s");
+    }
+
+    private void respond(String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            requests.add(exchange.getRequestURI().toString());
+            write(exchange, status, body);
+        });
+    }
+
+    private static void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private WaitStrategyTarget target() {
+        int port = server.getAddress().getPort();
+        return new WaitStrategyTarget() {
+            @Override
+            public List<Integer> getExposedPorts() {
+                return List.of(9200);
+            }
+
+            @Override
+            public InspectContainerResponse getContainerInfo() {
+                return null;
+            }
+
+            @Override
+            public String getHost() {
+                return "localhost";
+            }
+
+            @Override
+            public Integer getMappedPort(int originalPort) {
+                return port;
+            }
+
+            @Override
+            public boolean isRunning() {
+                return true;
+            }
+        };
+    }
+}
@@ -4,45 +4,53 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.IntStream;
 
-import org.apache.http.HttpHost;
-import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
-import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.logging.AsyncLogPipeline;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
-import co.elastic.clients.json.jackson.JacksonJsonpMapper;
-import co.elastic.clients.transport.ElasticsearchTransport;
-import co.elastic.clients.transport.rest_client.RestClientTransport;
 
-@Testcontainers
 public class ElasticsearchWaitStrategyTest {
 
 	private static final Logger logger = LoggerFactory.getLogger(ElasticsearchWaitStrategyTest.class);
 
-	@Container
+	// Forwards container logs through a bounded queue so a slow appender cannot delay readiness
+	private static final AsyncLogPipeline logPipeline = AsyncLogPipeline.to(new Slf4jLogConsumer(logger))
+			.withOverflowPolicy(AsyncLogPipeline.OverflowPolicy.SAMPLE);
+
 	private static final ElasticsearchContainer elasticsearch = new ElasticsearchContainer("elasticsearch:8.5.0")
 			.withEnv("discovery.type", "single-node").withEnv("xpack.security.enabled", "false")
-			.waitingFor(Wait.forHttp("/_cluster/health").forStatusCode(200)
-					.forResponsePredicate(response -> response.contains("\"status\":\"green\"")))
-			.withLogConsumer(new Slf4jLogConsumer(logger));
+			// Yellow via a server-side long-poll; green may never come on a single node with replicas
+			.waitingFor(ElasticsearchHealthWaitStrategy.forYellowCluster().withStartupTimeout(Duration.ofMinutes(2)))
+			.withLogConsumer(logPipeline);
+
+	@BeforeAll
+	static void startContainer() {
+		elasticsearch.start();
+	}
+
+	// One method so the order is fixed: client, then container, then the pipeline draining its logs
+	@AfterAll
+	static void closeClientAndLogPipeline() {
+		ElasticsearchFixture.close(elasticsearch);
+		elasticsearch.stop();
+		logPipeline.close();
+	}
 
 	@Test
 	void testElasticsearchOperations() throws IOException {
-		// Create the low-level REST client
-		RestClient restClient = RestClient
-				.builder(new HttpHost(elasticsearch.getHost(), elasticsearch.getMappedPort(9200))).build();
-
-		// Create the transport and client
-		ElasticsearchTransport transport = new RestClientTransport(restClient, new JacksonJsonpMapper());
-		ElasticsearchClient client = new ElasticsearchClient(transport);
+		// One pooled client per container, closed in @AfterAll
+		ElasticsearchClient client = ElasticsearchFixture.forContainer(elasticsearch).client();
 
 		// Create and index a document
 		Product product = new Product("1", "Elasticsearch Guide", 29.99);
@@ -57,6 +65,22 @@ public class ElasticsearchWaitStrategyTest {
 		assertThat(retrieved.name()).isEqualTo("Elasticsearch Guide");
 	}
 
+	@Test
+	void bulkLoadProducts() throws IOException {
+		ElasticsearchFixture fixture = ElasticsearchFixture.forContainer(elasticsearch);
+
+		// Generated lazily; only one batch is held in memory at a time
+		Iterator<Product> products = IntStream.range(0, 5_000)
+				.mapToObj(i -> new Product("bulk-" + i, "Product " + i, i % 100 + 0.99))
+				.iterator();
+		ElasticsearchFixture.BulkLoadResult result = fixture.bulkLoad("bulk-products", products, Product::id, 500);
+
+		assertThat(result.failed()).isZero();
+		assertThat(result.batches()).isEqualTo(10);
+		// Searchable right away thanks to the final refresh
+		assertThat(fixture.client().count(c -> c.index("bulk-products")).count()).isEqualTo(5_000);
+	}
+
 	record Product(String id, String name, double price) {
 	}
 }
\ No newline at end of file
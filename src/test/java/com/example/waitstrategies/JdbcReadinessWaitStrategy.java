@@ -0,0 +1,225 @@
+package com.example.waitstrategies;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+/**
+ * JdbcReadinessWaitStrategy waits until the database actually answers a SQL query, not just until its port is open.
+ *
+ * Each attempt opens a connection through the container's JDBC driver instance (resolved once, no DriverManager
+ * scan) and runs the readiness query, {@code SELECT 1} by default. Failed attempts back off exponentially with
+ * jitter, starting at a few milliseconds so readiness is noticed shortly after the server starts accepting
+ * queries; the backoff never sleeps past the startup deadline. Every attempt also passes the time left until that
+ * deadline to the driver as its connect, login and socket timeout, so a handshake that hangs cannot outlive it.
+ *
+ * The attempt count and the time spent connecting, querying and backing off during the last run are exposed for
+ * diagnostics. Works with any {@link JdbcDatabaseContainer} whose {@code waitUntilContainerStarted} honours the
+ * wait strategy, e.g. PostgreSQLContainer.
+ */
+public class JdbcReadinessWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcReadinessWaitStrategy.class);
+
+    private String query = "SELECT 1";
+    private Duration initialBackoff = Duration.ofMillis(10);
+    private Duration maxBackoff = Duration.ofMillis(500);
+
+    // Diagnostics of the last run
+    private volatile int attempts;
+    private volatile long connectNanos;
+    private volatile long queryNanos;
+    private volatile long backoffNanos;
+    private volatile long totalNanos;
+
+    private JdbcReadinessWaitStrategy() {
+    }
+
+    /**
+     * Factory method for a strategy probing with {@code SELECT 1}.
+     * @return JdbcReadinessWaitStrategy instance
+     */
+    public static JdbcReadinessWaitStrategy forSelectOne() {
+        return new JdbcReadinessWaitStrategy();
+    }
+
+    /**
+     * Factory method for a strategy probing with a custom query, e.g. one that checks the schema is migrated.
+     * @param query SQL executed on every attempt
+     * @return JdbcReadinessWaitStrategy instance
+     */
+    public static JdbcReadinessWaitStrategy forQuery(String query) {
+        return new JdbcReadinessWaitStrategy().withQuery(query);
+    }
+
+    public JdbcReadinessWaitStrategy withQuery(String query) {
+        this.query = query;
+        return this;
+    }
+
+    /**
+     * Sets the first and the largest sleep between attempts; the sleep doubles after every failure.
+     */
+    public JdbcReadinessWaitStrategy withBackoff(Duration initial, Duration max) {
+        if (initial.isNegative() || initial.isZero() || max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("Backoff needs 0 < initial <= max, got " + initial + " and " + max);
+        }
+        this.initialBackoff = initial;
+        this.maxBackoff = max;
+        return this;
+    }
+
+    @Override
+    public JdbcReadinessWaitStrategy withStartupTimeout(Duration startupTimeout) {
+        this.startupTimeout = startupTimeout;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        if (!(waitStrategyTarget instanceof JdbcDatabaseContainer<?> container)) {
+            throw new IllegalStateException("JdbcReadinessWaitStrategy needs a JdbcDatabaseContainer, got "
+                    + waitStrategyTarget.getClass().getName());
+        }
+        attempts = 0;
+        connectNanos = 0;
+        queryNanos = 0;
+        backoffNanos = 0;
+        totalNanos = 0;
+
+        Driver driver = container.getJdbcDriverInstance();
+        String url = container.getJdbcUrl();
+        Properties credentials = new Properties();
+        credentials.put("user", container.getUsername());
+        credentials.put("password", container.getPassword());
+
+        long start = System.nanoTime();
+        long deadline = start + startupTimeout.toNanos();
+        long backoff = initialBackoff.toNanos();
+        SQLException lastFailure = null;
+
+        while (true) {
+            attempts++;
+            try {
+                probe(driver, url, credentials, deadline);
+                totalNanos = System.nanoTime() - start;
+                logger.info("Database ready after {} ms and {} attempt(s) (connect {} ms, query {} ms, backoff {} ms)",
+                        getReadyAfter().toMillis(), attempts, getConnectTime().toMillis(), getQueryTime().toMillis(),
+                        getBackoffTime().toMillis());
+                return;
+            } catch (SQLException e) {
+                logger.debug("Readiness attempt {} failed: {}", attempts, e.getMessage());
+                lastFailure = e;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !waitStrategyTarget.isRunning()) {
+                totalNanos = System.nanoTime() - start;
+                throw new ContainerLaunchException("Database at " + url + " did not answer '" + query + "' within "
+                        + startupTimeout.toMillis() + " ms (" + attempts + " attempts)", lastFailure);
+            }
+            // Equal jitter: sleep between half and the full backoff so parallel starts do not probe in lockstep
+            long sleep = Math.min(remaining, backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for " + url, e);
+            }
+            backoffNanos += sleep;
+            backoff = Math.min(backoff * 2, maxBackoff.toNanos());
+        }
+    }
+
+    private void probe(Driver driver, String url, Properties credentials, long deadline) throws SQLException {
+        long connectStart = System.nanoTime();
+        Connection connection;
+        try {
+            connection = driver.connect(url, withTimeouts(url, credentials, deadline));
+        } finally {
+            connectNanos += System.nanoTime() - connectStart;
+        }
+        if (connection == null) {
+            throw new ContainerLaunchException("Driver " + driver.getClass().getName() + " does not accept " + url);
+        }
+
+        long queryStart = System.nanoTime();
+        try (connection; Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(remainingSeconds(deadline));
+            statement.execute(query);
+        } finally {
+            queryNanos += System.nanoTime() - queryStart;
+        }
+    }
+
+    /*
+     * Driver properties bounding connect, authentication and reads by the remaining startup time. pgjdbc takes
+     * seconds and MySQL Connector/J milliseconds; settings already in the JDBC URL take precedence. Other drivers
+     * have no common names for these, so they only get the query timeout.
+     */
+    private static Properties withTimeouts(String url, Properties credentials, long deadline) {
+        Properties properties = new Properties();
+        properties.putAll(credentials);
+        if (url.startsWith("jdbc:postgresql:")) {
+            String seconds = String.valueOf(remainingSeconds(deadline));
+            properties.setProperty("connectTimeout", seconds);
+            properties.setProperty("loginTimeout", seconds);
+            properties.setProperty("socketTimeout", seconds);
+        } else if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            String millis = String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            properties.setProperty("connectTimeout", millis);
+            properties.setProperty("socketTimeout", millis);
+        }
+        return properties;
+    }
+
+    private static int remainingSeconds(long deadline) {
+        return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime()));
+    }
+
+    /**
+     * @return Number of readiness attempts during the last run
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return Total time spent opening connections, failed attempts included
+     */
+    public Duration getConnectTime() {
+        return Duration.ofNanos(connectNanos);
+    }
+
+    /**
+     * @return Total time spent executing the readiness query
+     */
+    public Duration getQueryTime() {
+        return Duration.ofNanos(queryNanos);
+    }
+
+    /**
+     * @return Total time spent sleeping between attempts
+     */
+    public Duration getBackoffTime() {
+        return Duration.ofNanos(backoffNanos);
+    }
+
+    /**
+     * @return Time from the first attempt until the query succeeded or the wait gave up
+     */
+    public Duration getReadyAfter() {
+        return Duration.ofNanos(totalNanos);
+    }
+}
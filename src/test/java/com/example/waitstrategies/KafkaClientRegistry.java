@@ -0,0 +1,223 @@
+package com.example.waitstrategies;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.KafkaContainer;
+
+/**
+ * KafkaClientRegistry hands out Kafka clients that are shared per container instead of created per call.
+ *
+ * Every new client does a metadata bootstrap that costs hundreds of milliseconds and holds its own sockets, so
+ * helpers like {@code topicExists} should not build one each time. Clients are keyed by bootstrap servers and
+ * created lazily: one AdminClient, one String producer and one String consumer per group id. They are shared
+ * across test classes and closed when
+ * <ul>
+ * <li>{@link #close(KafkaContainer)} is called,</li>
+ * <li>the next lookup notices the owning container was stopped or restarted, which Testcontainers records by
+ * clearing or replacing its container id, or that the address now belongs to a different container,</li>
+ * <li>the JVM shuts down.</li>
+ * </ul>
+ *
+ * Lookups only compare container ids held in memory; they never ask Docker whether a container is running, which
+ * would cost an inspect round trip per cached container on every call.
+ *
+ * The AdminClient gives up on a request after {@value #REQUEST_TIMEOUT_MS} ms and on an API call after
+ * {@value #DEFAULT_API_TIMEOUT_MS} ms, so a wait strategy polling a dead broker gets control back well within its
+ * startup deadline instead of waiting out the client defaults of 30 s and 60 s.
+ *
+ * AdminClient and KafkaProducer are thread-safe; KafkaConsumer is not, so share a consumer group id only between
+ * code running on the same thread.
+ */
+public final class KafkaClientRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaClientRegistry.class);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+    private static final int REQUEST_TIMEOUT_MS = 2_000;
+    private static final int DEFAULT_API_TIMEOUT_MS = 2 * REQUEST_TIMEOUT_MS;
+
+    private static final Map<String, Clients> CLIENTS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(KafkaClientRegistry::closeAll, "kafka-client-registry"));
+    }
+
+    private KafkaClientRegistry() {
+    }
+
+    /**
+     * Returns the clients for the given, already started, container.
+     * @param kafka Running Kafka container
+     * @return Clients shared by everyone using this container
+     */
+    public static Clients forContainer(KafkaContainer kafka) {
+        evictStale();
+        String bootstrapServers = kafka.getBootstrapServers();
+        String containerId = kafka.getContainerId();
+        Clients[] replaced = new Clients[1];
+        Clients clients = CLIENTS.compute(bootstrapServers, (key, existing) -> {
+            if (existing != null && Objects.equals(existing.containerId, containerId)) {
+                return existing;
+            }
+            // Same host port, new container: the old clients point at a dead broker
+            replaced[0] = existing;
+            return new Clients(bootstrapServers, containerId, kafka);
+        });
+        // Closing can take up to CLOSE_TIMEOUT, too long to hold the map's bin lock
+        if (replaced[0] != null) {
+            replaced[0].close();
+        }
+        return clients;
+    }
+
+    /**
+     * Convenience for the common case of needing only the AdminClient.
+     */
+    public static AdminClient admin(KafkaContainer kafka) {
+        return forContainer(kafka).admin();
+    }
+
+    /**
+     * Closes and forgets the clients of this container. Safe to call more than once.
+     */
+    public static void close(KafkaContainer kafka) {
+        CLIENTS.values().removeIf(clients -> {
+            if (Objects.equals(clients.containerId, kafka.getContainerId())) {
+                clients.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Closes all clients, e.g. at the end of a suite.
+     */
+    public static void closeAll() {
+        CLIENTS.values().removeIf(clients -> {
+            clients.close();
+            return true;
+        });
+    }
+
+    // GenericContainer.stop() clears the container id, so a mismatch means the clients point at a dead broker
+    private static void evictStale() {
+        CLIENTS.values().removeIf(clients -> {
+            if (!Objects.equals(clients.container.getContainerId(), clients.containerId)) {
+                logger.debug("Evicting Kafka clients for stopped container at {}", clients.bootstrapServers);
+                clients.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Lazily created clients bound to one container.
+     */
+    public static final class Clients {
+
+        private final String bootstrapServers;
+        private final String containerId;
+        private final KafkaContainer container;
+
+        private volatile AdminClient admin;
+        private volatile KafkaProducer<String, String> producer;
+        private final Map<String, KafkaConsumer<String, String>> consumers = new ConcurrentHashMap<>();
+
+        private Clients(String bootstrapServers, String containerId, KafkaContainer container) {
+            this.bootstrapServers = bootstrapServers;
+            this.containerId = containerId;
+            this.container = container;
+        }
+
+        public AdminClient admin() {
+            AdminClient result = admin;
+            if (result == null) {
+                synchronized (this) {
+                    if (admin == null) {
+                        Properties props = new Properties();
+                        props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                        props.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, REQUEST_TIMEOUT_MS);
+                        props.put(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, DEFAULT_API_TIMEOUT_MS);
+                        admin = AdminClient.create(props);
+                    }
+                    result = admin;
+                }
+            }
+            return result;
+        }
+
+        public KafkaProducer<String, String> producer() {
+            KafkaProducer<String, String> result = producer;
+            if (result == null) {
+                synchronized (this) {
+                    if (producer == null) {
+                        Properties props = new Properties();
+                        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+                        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+                        producer = new KafkaProducer<>(props);
+                    }
+                    result = producer;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the consumer for {@code groupId}, reading from the earliest offset when the group has none.
+         */
+        public KafkaConsumer<String, String> consumer(String groupId) {
+            return consumers.computeIfAbsent(groupId, group -> {
+                Properties props = new Properties();
+                props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                props.put(ConsumerConfig.GROUP_ID_CONFIG, group);
+                props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+                props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+                props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+                return new KafkaConsumer<>(props);
+            });
+        }
+
+        public String getBootstrapServers() {
+            return bootstrapServers;
+        }
+
+        private synchronized void close() {
+            consumers.values().forEach(consumer -> closeQuietly(() -> consumer.close(CLOSE_TIMEOUT)));
+            consumers.clear();
+            if (producer != null) {
+                KafkaProducer<String, String> closing = producer;
+                closeQuietly(() -> closing.close(CLOSE_TIMEOUT));
+                producer = null;
+            }
+            if (admin != null) {
+                AdminClient closing = admin;
+                closeQuietly(() -> closing.close(CLOSE_TIMEOUT));
+                admin = null;
+            }
+        }
+
+        private void closeQuietly(Runnable close) {
+            try {
+                close.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to close Kafka client for {}", bootstrapServers, e);
+            }
+        }
+    }
+}
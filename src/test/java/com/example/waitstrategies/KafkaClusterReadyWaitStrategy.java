@@ -0,0 +1,175 @@
+package com.example.waitstrategies;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+/**
+ * KafkaClusterReadyWaitStrategy reports ready when the broker answers cluster metadata requests, instead of
+ * matching a startup line in the log whose format changes between Kafka versions.
+ *
+ * The container's shared AdminClient from {@link KafkaClientRegistry}, whose request timeouts stay below the
+ * poll deadline, polls {@code describeCluster} until the expected number of brokers and an active controller are
+ * visible. Declared topics are then created in a single batched {@code createTopics} call, so they already exist
+ * when the first test runs.
+ *
+ * <pre>
+ * new KafkaContainer(image).waitingFor(KafkaClusterReadyWaitStrategy.forBrokers(1)
+ *         .withTopic("orders", 3)
+ *         .withStartupTimeout(Duration.ofMinutes(2)));
+ * </pre>
+ */
+public class KafkaClusterReadyWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaClusterReadyWaitStrategy.class);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final int REQUEST_TIMEOUT_MS = 2_000;
+
+    private final int expectedBrokers;
+    private final List<NewTopic> topics = new ArrayList<>();
+
+    private KafkaClusterReadyWaitStrategy(int expectedBrokers) {
+        this.expectedBrokers = expectedBrokers;
+    }
+
+    /**
+     * Factory method to create a strategy that waits for a single broker.
+     * @return KafkaClusterReadyWaitStrategy instance
+     */
+    public static KafkaClusterReadyWaitStrategy forSingleBroker() {
+        return forBrokers(1);
+    }
+
+    /**
+     * Factory method to create a strategy that waits until {@code expectedBrokers} brokers are registered.
+     * @param expectedBrokers Number of brokers that must appear in the cluster metadata
+     * @return KafkaClusterReadyWaitStrategy instance
+     */
+    public static KafkaClusterReadyWaitStrategy forBrokers(int expectedBrokers) {
+        if (expectedBrokers < 1) {
+            throw new IllegalArgumentException("expectedBrokers must be at least 1, got " + expectedBrokers);
+        }
+        return new KafkaClusterReadyWaitStrategy(expectedBrokers);
+    }
+
+    /**
+     * Declares a topic with replication factor 1 to create before the container is reported ready.
+     */
+    public KafkaClusterReadyWaitStrategy withTopic(String name, int partitions) {
+        return withTopics(List.of(new NewTopic(name, partitions, (short) 1)));
+    }
+
+    /**
+     * Declares topics to create, in one batch, before the container is reported ready.
+     * Topics that already exist are left untouched.
+     */
+    public KafkaClusterReadyWaitStrategy withTopics(Collection<NewTopic> newTopics) {
+        topics.addAll(newTopics);
+        return this;
+    }
+
+    @Override
+    public KafkaClusterReadyWaitStrategy withStartupTimeout(Duration startupTimeout) {
+        this.startupTimeout = startupTimeout;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        if (!(waitStrategyTarget instanceof KafkaContainer kafka)) {
+            throw new IllegalStateException("KafkaClusterReadyWaitStrategy needs a KafkaContainer, got "
+                    + waitStrategyTarget.getClass().getName());
+        }
+        String bootstrapServers = kafka.getBootstrapServers();
+        long start = System.nanoTime();
+        long deadline = start + startupTimeout.toNanos();
+
+        // The AdminClient stays open afterwards so tests reuse its bootstrapped metadata
+        AdminClient admin = KafkaClientRegistry.admin(kafka);
+        awaitCluster(admin, bootstrapServers, deadline);
+        long clusterReady = System.nanoTime();
+        createTopics(admin, deadline);
+        logger.info("Kafka at {} ready: cluster metadata after {} ms, {} topic(s) created in {} ms",
+                bootstrapServers, TimeUnit.NANOSECONDS.toMillis(clusterReady - start), topics.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - clusterReady));
+    }
+
+    private void awaitCluster(AdminClient admin, String bootstrapServers, long deadline) {
+        DescribeClusterOptions options = new DescribeClusterOptions().timeoutMs(REQUEST_TIMEOUT_MS);
+        Exception lastFailure = null;
+        int brokers = 0;
+        while (System.nanoTime() < deadline) {
+            try {
+                DescribeClusterResult cluster = admin.describeCluster(options);
+                Collection<Node> nodes = cluster.nodes().get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                Node controller = cluster.controller().get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                brokers = nodes.size();
+                if (brokers >= expectedBrokers && controller != null && !controller.isEmpty()) {
+                    return;
+                }
+            } catch (ExecutionException | TimeoutException e) {
+                lastFailure = e;
+                logger.debug("Cluster metadata not available yet: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for Kafka at " + bootstrapServers, e);
+            }
+            if (!waitStrategyTarget.isRunning()) {
+                throw new ContainerLaunchException("Kafka container stopped while waiting for cluster metadata");
+            }
+            sleep(POLL_INTERVAL);
+        }
+        throw new ContainerLaunchException("Kafka at " + bootstrapServers + " did not report " + expectedBrokers
+                + " broker(s) and a controller within " + startupTimeout.toMillis() + " ms (last saw " + brokers + ")",
+                lastFailure);
+    }
+
+    private void createTopics(AdminClient admin, long deadline) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        long remainingMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        CreateTopicsOptions options = new CreateTopicsOptions().timeoutMs((int) Math.min(remainingMs, Integer.MAX_VALUE));
+        // One CreateTopics request for the whole set; each topic still reports its own outcome
+        admin.createTopics(topics, options).values().forEach((name, future) -> {
+            try {
+                future.get(remainingMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof TopicExistsException)) {
+                    throw new ContainerLaunchException("Could not create topic " + name, e.getCause());
+                }
+            } catch (TimeoutException e) {
+                throw new ContainerLaunchException("Timed out creating topic " + name, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while creating topic " + name, e);
+            }
+        });
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for Kafka", e);
+        }
+    }
+}
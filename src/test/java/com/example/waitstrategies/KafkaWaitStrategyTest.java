@@ -3,25 +3,20 @@ package com.example.waitstrategies;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
-import java.util.Collections;
-import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 
-import org.apache.kafka.clients.admin.AdminClient;
-import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
-import org.testcontainers.containers.wait.strategy.Wait;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import com.example.logging.AsyncLogPipeline;
+
 
-@Testcontainers
 public class KafkaWaitStrategyTest {
 	private static final Logger logger = LoggerFactory.getLogger(KafkaWaitStrategyTest.class);
 	
@@ -30,14 +25,19 @@ public class KafkaWaitStrategyTest {
 	 */
 	
     
-	@Container
+	// Kafka logs heavily at startup; forward through a bounded queue so logging cannot delay readiness
+	private static final AsyncLogPipeline logPipeline = AsyncLogPipeline.to(new Slf4jLogConsumer(logger))
+			.withOverflowPolicy(AsyncLogPipeline.OverflowPolicy.SAMPLE);
+
+	private static final String TOPIC_NAME = "test-topic";
+
     private static final KafkaContainer kafkaContainer = new KafkaContainer(
             DockerImageName.parse("confluentinc/cp-kafka:7.0.0"))
-        // Liveness check
-        .waitingFor(Wait.forListeningPort())
-        // Readiness check
-        .waitingFor(Wait.forLogMessage(".*KafkaServer id=.* started.*", 1))
-    		.withLogConsumer(new Slf4jLogConsumer(logger));
+        // Readiness from cluster metadata instead of a log regex; the topic exists before the first test runs
+        .waitingFor(KafkaClusterReadyWaitStrategy.forSingleBroker()
+        		.withTopic(TOPIC_NAME, 1)
+        		.withStartupTimeout(Duration.ofMinutes(2)))
+    		.withLogConsumer(logPipeline);
 
     /*
     @Container
@@ -52,37 +52,32 @@ public class KafkaWaitStrategyTest {
 
 
 
+    @BeforeAll
+    static void startContainer() {
+        kafkaContainer.start();
+    }
+
+    // Admin clients close while the broker still answers; the pipeline closes once the broker is down
+    @AfterAll
+    static void closeClientsAndLogPipeline() {
+        KafkaClientRegistry.close(kafkaContainer);
+        kafkaContainer.stop();
+        logPipeline.close();
+    }
+
     @Test
     void testKafkaOperations() throws ExecutionException, InterruptedException {
-    	String topicName = "test-topic";
-    	// 1. Create topic
-        createTopic(topicName);
-
-        // 2. Verify topic exists with assertion
-        assertTrue(topicExists(topicName), "Topic should exist after creation");
+        // Topic was created in one batch by the wait strategy
+        assertTrue(topicExists(TOPIC_NAME), "Topic should exist once the container is ready");
         
-        logger.info("✅ Kafka topic '{}' is created and available.", topicName);
+        logger.info("✅ Kafka topic '{}' is created and available.", TOPIC_NAME);
 
         
     }
 
-    private void createTopic(String topicName) throws ExecutionException, InterruptedException {
-        Properties props = new Properties();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
-
-        try (AdminClient admin = AdminClient.create(props)) {
-            NewTopic newTopic = new NewTopic(topicName, 1, (short) 1);
-            admin.createTopics(Collections.singletonList(newTopic)).all().get();
-        }
-    }
-
     private boolean topicExists(String topicName) throws ExecutionException, InterruptedException {
-        Properties props = new Properties();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
-
-        try (AdminClient admin = AdminClient.create(props)) {
-            return admin.listTopics().names().get().contains(topicName);
-        }
+        // Reuses the AdminClient the wait strategy already bootstrapped
+        return KafkaClientRegistry.admin(kafkaContainer).listTopics().names().get().contains(topicName);
     }
 
    
@@ -4,12 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.Collections;
-import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 
-import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +26,11 @@ public class KafkaWithCombinedWaitStrategyTest {
     @Container
     private static final KafkaContainer kafkaContainer = new KafkaContainer(
             DockerImageName.parse("confluentinc/cp-kafka:7.0.0"))
-        // Liveness check
+        // Liveness and readiness checks run concurrently against one shared deadline
         .waitingFor(CombinedWaitStrategy.of(
         		Wait.forListeningPort(),
         		Wait.forLogMessage(".*KafkaServer id=.* started.*", 1)
-        		).withStartupTimeout(Duration.ofMinutes(2)));//.withLogConsumer(new Slf4jLogConsumer(logger));  
+        		).inParallel().withStartupTimeout(Duration.ofMinutes(2)));//.withLogConsumer(new Slf4jLogConsumer(logger));  
     
     
 
@@ -51,23 +49,17 @@ public class KafkaWithCombinedWaitStrategyTest {
     }
 
     private void createTopic(String topicName) throws ExecutionException, InterruptedException {
-        Properties props = new Properties();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
-
-        try (AdminClient admin = AdminClient.create(props)) {
-            NewTopic newTopic = new NewTopic(topicName, 1, (short) 1);
-            admin.createTopics(Collections.singletonList(newTopic)).all().get();
-        }
+        NewTopic newTopic = new NewTopic(topicName, 1, (short) 1);
+        KafkaClientRegistry.admin(kafkaContainer).createTopics(Collections.singletonList(newTopic)).all().get();
     }
 
     private boolean topicExists(String topicName) throws ExecutionException, InterruptedException {
-        Properties props = new Properties();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
-
-        try (AdminClient admin = AdminClient.create(props)) {
-            return admin.listTopics().names().get().contains(topicName);
-        }
+        // Same AdminClient as createTopic: one metadata bootstrap for the whole class
+        return KafkaClientRegistry.admin(kafkaContainer).listTopics().names().get().contains(topicName);
     }
 
-   
+    @AfterAll
+    static void closeKafkaClients() {
+        KafkaClientRegistry.close(kafkaContainer);
+    }
 }
\ No newline at end of file
@@ -3,9 +3,9 @@ package com.example.waitstrategies;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +14,8 @@ import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.example.datasource.PooledDataSources;
+
 /**
  * Demonstrates the usage of Wait.forHealthcheck() strategy with MySQL official image.
  * 
@@ -42,13 +44,16 @@ public class MySQLHealthCheckWaitStrategyTest {
         String jdbcUrl = mysql.getJdbcUrl();
         logger.info("MySQL is running at {}", jdbcUrl);
 
-        try (Connection conn = DriverManager.getConnection(
-                jdbcUrl,
-                mysql.getUsername(),
-                mysql.getPassword())) {
+        try (Connection conn = PooledDataSources.forContainer(mysql).getConnection()) {
 
             assertTrue(conn.isValid(2), "MySQL connection should be valid");
             logger.info("Successfully connected to MySQL after health check readiness.");
         }
     }
+
+    // Runs before the extension stops the container
+    @AfterAll
+    static void closeDataSource() {
+        PooledDataSources.close(mysql);
+    }
 }
@@ -0,0 +1,385 @@
+package com.example.waitstrategies;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.dockerjava.api.model.HealthCheck;
+
+/**
+ * Repeatable startup benchmark for the wait strategies used in this package.
+ *
+ * Every scenario (image + wait strategy) is started N times in a fresh container. For each run two numbers are
+ * recorded: time to ready ({@code start()} returned) and time to the first successful client operation, which is
+ * retried from the moment {@code start()} returns. A strategy that returns "ready" before the service can actually
+ * serve shows up as a gap between the two and as first-attempt failures. The image of a scenario is pulled before
+ * its first timed run, so the percentiles measure the wait strategy and not the registry download. Results are
+ * written as JSON so runs can be diffed for regressions.
+ *
+ * Run from the IDE or with
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=com.example.waitstrategies.WaitStrategyBenchmark \
+ *     -Dexec.classpathScope=test -Dbenchmark.iterations=10 -Dbenchmark.filter=postgres
+ * </pre>
+ *
+ * System properties:
+ * <ul>
+ * <li>{@code benchmark.iterations} - runs per scenario (default 5)</li>
+ * <li>{@code benchmark.filter} - only run scenarios whose name contains this text</li>
+ * <li>{@code benchmark.output} - JSON file (default target/benchmarks/wait-strategies.json)</li>
+ * </ul>
+ *
+ * This is deliberately a main class and not a test: it takes minutes and should not run as part of {@code mvn test}.
+ */
+public class WaitStrategyBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitStrategyBenchmark.class);
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration CLIENT_TIMEOUT = Duration.ofSeconds(60);
+    private static final long CLIENT_RETRY_MILLIS = 50;
+    private static final Duration HEALTHCHECK_INTERVAL = Duration.ofMillis(500);
+
+    public static void main(String[] args) throws IOException {
+        int iterations = Integer.getInteger("benchmark.iterations", 5);
+        String filter = System.getProperty("benchmark.filter", "");
+        Path output = Path.of(System.getProperty("benchmark.output", "target/benchmarks/wait-strategies.json"));
+
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            logger.error("Docker is not available, nothing to benchmark");
+            return;
+        }
+
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios()) {
+            if (!scenario.name().contains(filter)) {
+                continue;
+            }
+            logger.info("Benchmarking {} ({} iterations)", scenario.name(), iterations);
+            ScenarioResult result = run(scenario, iterations);
+            logger.info("{}: ready p50={} ms p95={} ms, first operation p50={} ms p95={} ms, failures={}",
+                    scenario.name(), result.timeToReady().p50(), result.timeToReady().p95(),
+                    result.timeToFirstOperation().p50(), result.timeToFirstOperation().p95(), result.failedRuns());
+            results.add(result);
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), new Report(Instant.now().toString(), iterations,
+                        Report.currentEnvironment(), results));
+        logger.info("Wrote benchmark results to {}", output.toAbsolutePath());
+    }
+
+    /*
+     * MySQL runs as a GenericContainer on purpose: MySQLContainer ignores waitingFor() and always polls JDBC
+     * itself, which would make every MySQL strategy measure the same thing.
+     */
+    static List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+
+        scenarios.add(new Scenario("postgres/listening-port", "postgres:15",
+                () -> postgres(Wait.forListeningPort()), WaitStrategyBenchmark::postgresQuery));
+        scenarios.add(new Scenario("postgres/log-message", "postgres:15",
+                () -> postgres(Wait.forLogMessage(".*database system is ready to accept connections.*", 2)),
+                WaitStrategyBenchmark::postgresQuery));
+        scenarios.add(new Scenario("postgres/combined", "postgres:15",
+                () -> postgres(CombinedWaitStrategy.of(Wait.forListeningPort(),
+                        Wait.forLogMessage(".*database system is ready to accept connections.*", 2)).inParallel()),
+                WaitStrategyBenchmark::postgresQuery));
+        scenarios.add(new Scenario("postgres/jdbc-readiness", "postgres:15",
+                () -> new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+                        .waitingFor(JdbcReadinessWaitStrategy.forSelectOne().withStartupTimeout(STARTUP_TIMEOUT)),
+                WaitStrategyBenchmark::postgresQuery));
+
+        scenarios.add(new Scenario("mysql/listening-port", "mysql:8",
+                () -> mysql(Wait.forListeningPort()), WaitStrategyBenchmark::mysqlQuery));
+        scenarios.add(new Scenario("mysql/log-message", "mysql:8",
+                () -> mysql(Wait.forLogMessage(".*ready for connections.*port: 3306.*", 1)),
+                WaitStrategyBenchmark::mysqlQuery));
+        scenarios.add(new Scenario("mysql/healthcheck", "mysql:8",
+                () -> withHealthcheck(mysql(Wait.forHealthcheck()),
+                        "mysqladmin", "ping", "-h", "127.0.0.1", "-uroot", "-ptest"),
+                WaitStrategyBenchmark::mysqlQuery));
+
+        scenarios.add(new Scenario("redis/listening-port", "redis:7-alpine",
+                () -> redis(Wait.forListeningPort()), WaitStrategyBenchmark::redisPing));
+        scenarios.add(new Scenario("redis/log-message", "redis:7-alpine",
+                () -> redis(Wait.forLogMessage(".*Ready to accept connections.*", 1)),
+                WaitStrategyBenchmark::redisPing));
+        scenarios.add(new Scenario("redis/healthcheck", "redis:7-alpine",
+                () -> withHealthcheck(redis(Wait.forHealthcheck()), "redis-cli", "ping"),
+                WaitStrategyBenchmark::redisPing));
+
+        scenarios.add(new Scenario("kafka/listening-port", "confluentinc/cp-kafka:7.2.1",
+                () -> kafka(Wait.forListeningPort()), WaitStrategyBenchmark::kafkaDescribeCluster));
+        scenarios.add(new Scenario("kafka/log-message", "confluentinc/cp-kafka:7.2.1",
+                () -> kafka(Wait.forLogMessage(".*\\[KafkaServer id=\\d+\\] started.*", 1)),
+                WaitStrategyBenchmark::kafkaDescribeCluster));
+        scenarios.add(new Scenario("kafka/combined", "confluentinc/cp-kafka:7.2.1",
+                () -> kafka(CombinedWaitStrategy.of(Wait.forListeningPort(),
+                        Wait.forLogMessage(".*\\[KafkaServer id=\\d+\\] started.*", 1)).inParallel()),
+                WaitStrategyBenchmark::kafkaDescribeCluster));
+        scenarios.add(new Scenario("kafka/cluster-metadata", "confluentinc/cp-kafka:7.2.1",
+                () -> kafka(KafkaClusterReadyWaitStrategy.forSingleBroker()),
+                WaitStrategyBenchmark::kafkaDescribeCluster));
+
+        scenarios.add(new Scenario("elasticsearch/listening-port", "elasticsearch:8.5.0",
+                () -> elasticsearch(Wait.forListeningPort()), WaitStrategyBenchmark::elasticsearchHealth));
+        scenarios.add(new Scenario("elasticsearch/http-health", "elasticsearch:8.5.0",
+                () -> elasticsearch(Wait.forHttp("/_cluster/health").forStatusCode(200)),
+                WaitStrategyBenchmark::elasticsearchHealth));
+        scenarios.add(new Scenario("elasticsearch/yellow-long-poll", "elasticsearch:8.5.0",
+                () -> elasticsearch(ElasticsearchHealthWaitStrategy.forYellowCluster()),
+                WaitStrategyBenchmark::elasticsearchHealth));
+        return scenarios;
+    }
+
+    static ScenarioResult run(Scenario scenario, int iterations) {
+        List<Long> readyMillis = new ArrayList<>();
+        List<Long> firstOperationMillis = new ArrayList<>();
+        int firstAttemptFailures = 0;
+        int failedRuns = 0;
+
+        pullImage(scenario);
+        for (int i = 0; i < iterations; i++) {
+            try (GenericContainer<?> container = scenario.factory().get()) {
+                long start = System.nanoTime();
+                container.start();
+                long ready = System.nanoTime();
+
+                int attempts = awaitFirstOperation(container, scenario.operation());
+                long operational = System.nanoTime();
+
+                readyMillis.add(TimeUnit.NANOSECONDS.toMillis(ready - start));
+                firstOperationMillis.add(TimeUnit.NANOSECONDS.toMillis(operational - start));
+                if (attempts > 1) {
+                    firstAttemptFailures++;
+                }
+            } catch (RuntimeException e) {
+                failedRuns++;
+                logger.warn("{} run {} failed: {}", scenario.name(), i + 1, e.getMessage());
+            }
+        }
+        return new ScenarioResult(scenario.name(), scenario.image(), iterations, failedRuns, firstAttemptFailures,
+                Percentiles.of(readyMillis), Percentiles.of(firstOperationMillis));
+    }
+
+    // Resolving the image name of an unstarted container pulls the image if it is not present locally
+    private static void pullImage(Scenario scenario) {
+        long start = System.nanoTime();
+        try (GenericContainer<?> container = scenario.factory().get()) {
+            container.getDockerImageName();
+            logger.info("Image {} ready in {} ms", scenario.image(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.warn("Pulling {} failed, the timed runs will pull it: {}", scenario.image(), e.getMessage());
+        }
+    }
+
+    private static int awaitFirstOperation(GenericContainer<?> container, ClientOperation operation) {
+        long deadline = System.nanoTime() + CLIENT_TIMEOUT.toNanos();
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            try {
+                operation.execute(container);
+                return attempts;
+            } catch (Exception e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("No successful client operation after " + attempts + " attempts", e);
+                }
+                try {
+                    Thread.sleep(CLIENT_RETRY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the first operation", ie);
+                }
+            }
+        }
+    }
+
+    private static GenericContainer<?> postgres(WaitStrategy waitStrategy) {
+        return new GenericContainer<>(DockerImageName.parse("postgres:15"))
+                .withEnv("POSTGRES_USER", "test")
+                .withEnv("POSTGRES_PASSWORD", "test")
+                .withEnv("POSTGRES_DB", "test")
+                .withExposedPorts(5432)
+                .waitingFor(waitStrategy.withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    private static GenericContainer<?> mysql(WaitStrategy waitStrategy) {
+        return new GenericContainer<>(DockerImageName.parse("mysql:8"))
+                .withEnv("MYSQL_ROOT_PASSWORD", "test")
+                .withEnv("MYSQL_DATABASE", "test")
+                .withExposedPorts(3306)
+                .waitingFor(waitStrategy.withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    /*
+     * Neither mysql:8 nor redis:7-alpine declares a HEALTHCHECK, so the benchmark adds one at create time.
+     * Docker runs it every HEALTHCHECK_INTERVAL, which bounds how early Wait.forHealthcheck() can see "healthy";
+     * TCP to 127.0.0.1 keeps mysqladmin away from the socket-only server MySQL runs during initialization.
+     */
+    private static GenericContainer<?> withHealthcheck(GenericContainer<?> container, String... test) {
+        List<String> command = new ArrayList<>();
+        command.add("CMD");
+        command.addAll(Arrays.asList(test));
+        return container.withCreateContainerCmdModifier(cmd -> cmd.withHealthcheck(new HealthCheck()
+                .withTest(command)
+                .withInterval(HEALTHCHECK_INTERVAL.toNanos())
+                .withTimeout(Duration.ofSeconds(5).toNanos())
+                .withRetries(3)));
+    }
+
+    private static GenericContainer<?> redis(WaitStrategy waitStrategy) {
+        return new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(6379)
+                .waitingFor(waitStrategy.withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    private static GenericContainer<?> kafka(WaitStrategy waitStrategy) {
+        return new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.2.1"))
+                .waitingFor(waitStrategy.withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    private static GenericContainer<?> elasticsearch(WaitStrategy waitStrategy) {
+        return new ElasticsearchContainer("elasticsearch:8.5.0")
+                .withEnv("discovery.type", "single-node")
+                .withEnv("xpack.security.enabled", "false")
+                .waitingFor(waitStrategy.withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    private static void postgresQuery(GenericContainer<?> container) throws Exception {
+        jdbcQuery("jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(5432) + "/test",
+                "test", "test");
+    }
+
+    private static void mysqlQuery(GenericContainer<?> container) throws Exception {
+        jdbcQuery("jdbc:mysql://" + container.getHost() + ":" + container.getMappedPort(3306) + "/test",
+                "root", "test");
+    }
+
+    private static void jdbcQuery(String url, String user, String password) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    private static void redisPing(GenericContainer<?> container) throws Exception {
+        try (Socket socket = new Socket(container.getHost(), container.getMappedPort(6379))) {
+            socket.setSoTimeout(2_000);
+            OutputStream out = socket.getOutputStream();
+            out.write("PING\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String reply = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+            if (!"+PONG".equals(reply)) {
+                throw new IllegalStateException("Unexpected Redis reply: " + reply);
+            }
+        }
+    }
+
+    private static void kafkaDescribeCluster(GenericContainer<?> container) throws Exception {
+        Properties props = new Properties();
+        props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, ((KafkaContainer) container).getBootstrapServers());
+        props.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, 2_000);
+        props.put(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, 2_000);
+        try (AdminClient admin = AdminClient.create(props)) {
+            if (admin.describeCluster().nodes().get(2, TimeUnit.SECONDS).isEmpty()) {
+                throw new IllegalStateException("Kafka cluster has no brokers yet");
+            }
+        }
+    }
+
+    private static void elasticsearchHealth(GenericContainer<?> container) throws Exception {
+        URL url = new URL("http://" + container.getHost() + ":" + container.getMappedPort(9200) + "/_cluster/health");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(2_000);
+        connection.setReadTimeout(2_000);
+        try {
+            if (connection.getResponseCode() != 200) {
+                throw new IllegalStateException("Cluster health returned HTTP " + connection.getResponseCode());
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @FunctionalInterface
+    interface ClientOperation {
+        void execute(GenericContainer<?> container) throws Exception;
+    }
+
+    record Scenario(String name, String image, Supplier<GenericContainer<?>> factory, ClientOperation operation) {
+    }
+
+    public record Percentiles(long min, long p50, long p95, long p99, long max, double mean) {
+
+        // Nearest-rank percentiles; small sample sizes make p99 equal to max, which is the honest answer
+        static Percentiles of(List<Long> samples) {
+            if (samples.isEmpty()) {
+                return new Percentiles(0, 0, 0, 0, 0, 0);
+            }
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Percentiles(sorted[0], rank(sorted, 50), rank(sorted, 95), rank(sorted, 99),
+                    sorted[sorted.length - 1], Arrays.stream(sorted).average().orElse(0));
+        }
+
+        private static long rank(long[] sorted, int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+
+    public record ScenarioResult(String name, String image, int iterations, int failedRuns, int firstAttemptFailures,
+                                 Percentiles timeToReady, Percentiles timeToFirstOperation) {
+    }
+
+    public record Report(String timestamp, int iterations, Map<String, String> environment,
+                         List<ScenarioResult> scenarios) {
+
+        static Map<String, String> currentEnvironment() {
+            Map<String, String> environment = new LinkedHashMap<>();
+            environment.put("java", System.getProperty("java.version"));
+            environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+            environment.put("processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+            return environment;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.testcontainers.containers;
+
+import org.testcontainers.images.builder.Transferable;
+
+import java.util.Map;
+
+/*
+ * Read access to the files a container will copy in on start, for com.example.reuse.ContainerReuse.
+ *
+ * withCopyToContainer registrations are only reachable through a package-private getter in
+ * Testcontainers 1.19, hence this class in the Testcontainers package. Unlike reading the field by
+ * reflection, an upgrade that removes or changes the getter fails the build instead of the hash.
+ */
+public final class ContainerCopies {
+
+    private ContainerCopies() {
+    }
+
+    // Content registered with withCopyToContainer, mapped to its path in the container.
+    public static Map<Transferable, String> transferables(GenericContainer<?> container) {
+        return container.getCopyToTransferableContainerPathMap();
+    }
+}